@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * A <code>BatchBinaryOperator</code> is a {@link BinaryOperator} that can fold many values
+ * into a state in one call. The default implementation folds each value in turn; binary
+ * operators can override it with a faster loop over the values.
+ *
+ * @param <T> Type of input and output
+ * @see uk.gov.gchq.koryphe.tuple.TupleBatch
+ */
+@FunctionalInterface
+public interface BatchBinaryOperator<T> extends BinaryOperator<T> {
+    /**
+     * Fold the values at the given rows of a column into a state, in row order.
+     *
+     * @param state  the value to fold into.
+     * @param column the values to fold in.
+     * @param rows   the rows of the column to fold in, in ascending order.
+     * @param count  the number of rows.
+     * @return the new state.
+     */
+    default T applyColumn(final T state, final Object[] column, final int[] rows, final int count) {
+        T result = state;
+        for (int i = 0; i < count; i++) {
+            result = apply(result, (T) column[rows[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * @param binaryOperator the binary operator to adapt.
+     * @param <T>            Type of input and output
+     * @return the binary operator if it is a <code>BatchBinaryOperator</code>, otherwise a
+     * <code>BatchBinaryOperator</code> that folds in each value with it.
+     */
+    static <T> BatchBinaryOperator<T> of(final BinaryOperator<T> binaryOperator) {
+        return binaryOperator instanceof BatchBinaryOperator ? (BatchBinaryOperator<T>) binaryOperator : binaryOperator::apply;
+    }
+}
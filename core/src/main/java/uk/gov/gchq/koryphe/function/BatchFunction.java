@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.function;
+
+import java.util.function.Function;
+
+/**
+ * A <code>BatchFunction</code> is a {@link Function} that can be applied to many values in one call.
+ * The default implementation applies the function to each value in turn; functions can
+ * override it with a faster loop over the values.
+ *
+ * @param <I> Function input type
+ * @param <O> Function output type
+ * @see uk.gov.gchq.koryphe.tuple.TupleBatch
+ */
+@FunctionalInterface
+public interface BatchFunction<I, O> extends Function<I, O> {
+    /**
+     * Apply the function to the values at the given rows of a column, writing each
+     * result to the same row of the output column. The output may be the input column.
+     *
+     * @param input  the values to apply the function to.
+     * @param output the column to write the results to.
+     * @param rows   the rows of the column to apply the function to, in ascending order.
+     * @param count  the number of rows.
+     */
+    default void applyColumn(final Object[] input, final Object[] output, final int[] rows, final int count) {
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            output[row] = apply((I) input[row]);
+        }
+    }
+
+    /**
+     * @param function the function to adapt.
+     * @param <I>      Function input type
+     * @param <O>      Function output type
+     * @return the function if it is a <code>BatchFunction</code>, otherwise a
+     * <code>BatchFunction</code> that applies it to each value.
+     */
+    static <I, O> BatchFunction<I, O> of(final Function<I, O> function) {
+        return function instanceof BatchFunction ? (BatchFunction<I, O>) function : function::apply;
+    }
+}
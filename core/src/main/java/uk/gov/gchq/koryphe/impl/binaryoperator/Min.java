@@ -20,6 +20,9 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
 /**
  * A <code>Min</code> is a {@link KorypheBinaryOperator} that takes in
  * {@link Comparable}s and calculates the minimum comparable. It assumes that all the input comparables
@@ -27,7 +30,17 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
  */
 @Since("1.0.0")
 @Summary("Calculates the min value")
-public class Min extends KorypheBinaryOperator<Comparable> {
+public class Min extends KorypheBinaryOperator<Comparable> implements LongBinaryOperator, DoubleBinaryOperator {
+    @Override
+    public long applyAsLong(final long a, final long b) {
+        return a <= b ? a : b;
+    }
+
+    @Override
+    public double applyAsDouble(final double a, final double b) {
+        return Double.compare(a, b) <= 0 ? a : b;
+    }
+
     @Override
     protected Comparable _apply(final Comparable a, final Comparable b) {
         return a.compareTo(b) <= 0 ? a : b;
@@ -23,6 +23,9 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
 /**
  * A <code>Sum</code> is a {@link java.util.function.BinaryOperator} that takes in
  * {@link Number}s of the same type and calculates the sum.
@@ -33,9 +36,19 @@ import uk.gov.gchq.koryphe.ValidationResult;
  */
 @Since("1.0.0")
 @Summary("Calculates the sum of 2 numbers")
-public class Sum extends NumericAggregateFunction {
+public class Sum extends NumericAggregateFunction implements LongBinaryOperator, DoubleBinaryOperator {
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidationResult.class);
 
+    @Override
+    public long applyAsLong(final long a, final long b) {
+        return a + b;
+    }
+
+    @Override
+    public double applyAsDouble(final double a, final double b) {
+        return a + b;
+    }
+
     @Override
     protected Integer aggregateInt(final Integer a, final Integer b) {
         return a + b;
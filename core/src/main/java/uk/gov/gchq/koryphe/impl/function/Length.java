@@ -25,6 +25,7 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
 import uk.gov.gchq.koryphe.signature.InputValidator;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 import uk.gov.gchq.koryphe.util.IterableUtil;
 
 import java.util.Map;
@@ -83,10 +84,10 @@ public class Length extends KorypheFunction<Object, Integer> implements InputVal
             return result;
         }
 
-        if (!String.class.isAssignableFrom(arguments[0])
-                && !Object[].class.isAssignableFrom(arguments[0])
-                && !Iterable.class.isAssignableFrom(arguments[0])
-                && !Map.class.isAssignableFrom(arguments[0])) {
+        if (!ClassUtil.isAssignableFrom(String.class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Object[].class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Iterable.class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Map.class, arguments[0])) {
             result.addError("Input class " + arguments[0].getName() + " must be one of the following: "
                     + String.class.getName() + ", "
                     + Object[].class.getName() + ", "
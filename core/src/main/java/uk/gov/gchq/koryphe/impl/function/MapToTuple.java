@@ -17,10 +17,13 @@
 package uk.gov.gchq.koryphe.impl.function;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
+import uk.gov.gchq.koryphe.tuple.CompactMap;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 
@@ -33,8 +36,58 @@ import java.util.Map;
 public class MapToTuple<K> extends KorypheFunction<Map<K, Object>, Tuple<K>> implements Serializable {
     private static final long serialVersionUID = -2964196592651621579L;
 
+    private boolean compact = false;
+
     @Override
     public Tuple<K> apply(final Map<K, Object> map) {
+        if (compact && null != map) {
+            return new MapTuple<>(new CompactMap<>(map));
+        }
         return new MapTuple<>(map);
     }
+
+    /**
+     * @return true if the map is copied into a {@link CompactMap} rather than wrapped.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public void setCompact(final boolean compact) {
+        this.compact = compact;
+    }
+
+    public MapToTuple<K> compact() {
+        this.compact = true;
+        return this;
+    }
+
+    public MapToTuple<K> compact(final boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!super.equals(o)) {
+            return false; // Does class checking
+        }
+
+        final MapToTuple<?> that = (MapToTuple<?>) o;
+        return new EqualsBuilder()
+                .append(compact, that.compact)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(47, 71)
+                .appendSuper(super.hashCode())
+                .append(compact)
+                .toHashCode();
+    }
 }
@@ -16,13 +16,17 @@
 
 package uk.gov.gchq.koryphe.impl.function;
 
-import org.apache.commons.lang3.ArrayUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
 import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.CompactMap;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveArrayTuple;
 import uk.gov.gchq.koryphe.tuple.ReflectiveTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 
@@ -33,10 +37,17 @@ import static java.util.Objects.isNull;
 /**
  * A <code>ToTuple</code> is a {@link java.util.function.Function} that takes
  * an object and converts it into a {@link Tuple} for follow on processing.
+ * If compact is set, {@link Map}s are copied into a {@link CompactMap} rather than wrapped.
+ * Arrays of primitives are wrapped in a {@link PrimitiveArrayTuple} without being copied or boxed;
+ * the view is read only unless writableArrays is set, in which case puts write through to the array.
  */
 @Since("1.8.0")
 @Summary("Converts an Object into a Tuple")
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class ToTuple extends KorypheFunction<Object, Tuple<?>> {
+    private boolean compact = false;
+    private boolean writableArrays = false;
+
     @Override
     public Tuple<?> apply(final Object value) {
         if (isNull(value)) {
@@ -47,6 +58,9 @@ public class ToTuple extends KorypheFunction<Object, Tuple<?>> {
         }
 
         if (value instanceof Map) {
+            if (compact) {
+                return new MapTuple<>(new CompactMap<>((Map<?, Object>) value));
+            }
             return new MapTuple<>(((Map<?, Object>) value));
         }
 
@@ -54,31 +68,8 @@ public class ToTuple extends KorypheFunction<Object, Tuple<?>> {
             return new ArrayTuple(((Object[]) value));
         }
 
-        if (value.getClass().isArray()) {
-            if (value instanceof int[]) {
-                return new ArrayTuple(ArrayUtils.toObject((int[]) value));
-            }
-            if (value instanceof double[]) {
-                return new ArrayTuple(ArrayUtils.toObject((double[]) value));
-            }
-            if (value instanceof long[]) {
-                return new ArrayTuple(ArrayUtils.toObject((long[]) value));
-            }
-            if (value instanceof float[]) {
-                return new ArrayTuple(ArrayUtils.toObject((float[]) value));
-            }
-            if (value instanceof short[]) {
-                return new ArrayTuple(ArrayUtils.toObject((short[]) value));
-            }
-            if (value instanceof boolean[]) {
-                return new ArrayTuple(ArrayUtils.toObject((boolean[]) value));
-            }
-            if (value instanceof byte[]) {
-                return new ArrayTuple(ArrayUtils.toObject((byte[]) value));
-            }
-            if (value instanceof char[]) {
-                return new ArrayTuple(ArrayUtils.toObject((char[]) value));
-            }
+        if (PrimitiveArrayTuple.isPrimitiveArray(value)) {
+            return PrimitiveArrayTuple.of(value, writableArrays);
         }
 
         if (value instanceof Iterable) {
@@ -87,4 +78,66 @@ public class ToTuple extends KorypheFunction<Object, Tuple<?>> {
 
         return new ReflectiveTuple(value);
     }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public void setCompact(final boolean compact) {
+        this.compact = compact;
+    }
+
+    public ToTuple compact() {
+        this.compact = true;
+        return this;
+    }
+
+    public ToTuple compact(final boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    public boolean isWritableArrays() {
+        return writableArrays;
+    }
+
+    public void setWritableArrays(final boolean writableArrays) {
+        this.writableArrays = writableArrays;
+    }
+
+    public ToTuple writableArrays() {
+        this.writableArrays = true;
+        return this;
+    }
+
+    public ToTuple writableArrays(final boolean writableArrays) {
+        this.writableArrays = writableArrays;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!super.equals(o)) {
+            return false; // Does class checking
+        }
+
+        final ToTuple that = (ToTuple) o;
+        return new EqualsBuilder()
+                .append(compact, that.compact)
+                .append(writableArrays, that.writableArrays)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(43, 79)
+                .appendSuper(super.hashCode())
+                .append(compact)
+                .append(writableArrays)
+                .toHashCode();
+    }
 }
@@ -23,9 +23,15 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.CoarseClock;
+
+import java.time.Clock;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * An <code>AgeOff</code> is a {@link java.util.function.Predicate} that ages off old data based on a provided age of time in milliseconds.
+ * The current time is read from the system clock, unless another {@link Clock} is used, such as a {@link CoarseClock}.
  */
 @Since("1.0.0")
 @Summary("Checks if a timestamp is recent based on a provided age off time")
@@ -39,6 +45,7 @@ public class AgeOff extends KoryphePredicate<Long> {
     public static final long AGE_OFF_TIME_DEFAULT = 365L * DAYS_TO_MILLISECONDS;
 
     private long ageOffTime = AGE_OFF_TIME_DEFAULT;
+    private volatile Clock clock = Clock.systemUTC();
 
     // Default constructor for serialisation
     public AgeOff() {
@@ -50,7 +57,17 @@ public class AgeOff extends KoryphePredicate<Long> {
 
     @Override
     public boolean test(final Long input) {
-        return null != input && (System.currentTimeMillis() - input) < ageOffTime;
+        return null != input && (clock.millis() - input) < ageOffTime;
+    }
+
+    /**
+     * Use a different clock to get the current time.
+     *
+     * @param clock the clock.
+     */
+    public void useClock(final Clock clock) {
+        requireNonNull(clock, "clock is required");
+        this.clock = clock;
     }
 
     public long getAgeOffTime() {
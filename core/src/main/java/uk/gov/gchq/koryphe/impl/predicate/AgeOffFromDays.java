@@ -19,20 +19,38 @@ package uk.gov.gchq.koryphe.impl.predicate;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.tuple.predicate.KoryphePredicate2;
+import uk.gov.gchq.koryphe.util.CoarseClock;
+
+import java.time.Clock;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * An <code>AgeOffFromDays</code> is a {@link java.util.function.BiPredicate}
  * that ages off old data based on a provided age off time in days.
+ * The current time is read from the system clock, unless another {@link Clock} is used, such as a {@link CoarseClock}.
  */
 @Since("1.0.0")
 @Summary("Checks if a timestamp is recent based on a provided age off in days")
 public class AgeOffFromDays extends KoryphePredicate2<Long, Integer> {
     public static final long DAYS_TO_MILLISECONDS = 24L * 60L * 60L * 1000L;
 
+    private volatile Clock clock = Clock.systemUTC();
+
     @Override
     public boolean test(final Long timestamp, final Integer days) {
         return null != timestamp
                 && null != days
-                && (System.currentTimeMillis() - (days * DAYS_TO_MILLISECONDS) < timestamp);
+                && (clock.millis() - (days * DAYS_TO_MILLISECONDS) < timestamp);
+    }
+
+    /**
+     * Use a different clock to get the current time.
+     *
+     * @param clock the clock.
+     */
+    public void useClock(final Clock clock) {
+        requireNonNull(clock, "clock is required");
+        this.clock = clock;
     }
 }
@@ -20,7 +20,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -28,10 +27,11 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.ValueSets;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Set;
 
 /**
  * An <code>AreIn</code> is a {@link java.util.function.BiPredicate}
@@ -40,12 +40,19 @@ import java.util.HashSet;
  * There is also a nullOrEmptyAllowedValuesAccepted flag which defaults to true.
  * If the provided allowedValues collection is null or empty, the flag's value
  * will be used as the result for any input test.
+ *
+ * The allowed values are copied into an unmodifiable set chosen from their type, see {@link ValueSets},
+ * when they are set, so each input value is looked up in constant time and the test stops
+ * at the first input value that is not allowed. Dense int and long values are held in a bitmap,
+ * so each input value is a single bit test. Changes made to the allowed values collection
+ * after it has been set are not seen by the predicate, and {@link #getValues()} returns the copy.
  */
 @Since("1.0.0")
 @Summary("Checks if a provided collection contains all the provided input values")
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class AreIn extends KoryphePredicate<Collection<?>> {
     private Collection<?> allowedValues;
+    private Set<Object> lookup;
     private boolean nullOrEmptyAllowedValuesAccepted = true;
 
     public AreIn() {
@@ -53,16 +60,17 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     }
 
     public AreIn(final Collection<?> allowedValues) {
-        this.allowedValues = allowedValues;
+        setValues(allowedValues);
     }
 
     public AreIn(final Collection<?> allowedValues, final boolean nullOrEmptyAllowedValuesAccepted) {
-        this.allowedValues = allowedValues;
+        setValues(allowedValues);
         this.nullOrEmptyAllowedValuesAccepted = nullOrEmptyAllowedValuesAccepted;
     }
 
     public AreIn(final Object... allowedValues) {
-        this.allowedValues = Sets.newHashSet(allowedValues);
+        this.lookup = ValueSets.of(Arrays.asList(allowedValues));
+        this.allowedValues = lookup;
     }
 
     @JsonIgnore
@@ -71,7 +79,8 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     }
 
     public void setValues(final Collection<?> allowedValues) {
-        this.allowedValues = allowedValues;
+        this.lookup = null != allowedValues ? ValueSets.of(allowedValues) : null;
+        this.allowedValues = lookup;
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -83,11 +92,8 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public void setAllowedValues(final Object[] allowedValuesArray) {
-        if (null != allowedValuesArray) {
-            allowedValues = new HashSet<>(Arrays.asList(allowedValuesArray));
-        } else {
-            allowedValues = new HashSet<>(0);
-        }
+        lookup = ValueSets.of(null != allowedValuesArray ? Arrays.asList(allowedValuesArray) : null);
+        allowedValues = lookup;
     }
 
     @JsonProperty("nullOrEmptyValuesAccepted")
@@ -106,7 +112,7 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
             return nullOrEmptyAllowedValuesAccepted;
         }
 
-        return (null != input && allowedValues.containsAll(input));
+        return (null != input && lookup.containsAll(input));
     }
 
     @Override
@@ -24,6 +24,7 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 /**
  * An <code>IsA</code> {@link java.util.function.Predicate} tests whether an input {@link Object} is an
@@ -84,7 +85,7 @@ public class IsA extends KoryphePredicate<Object> {
      */
     @Override
     public boolean test(final Object input) {
-        return null == input || null == type || type.isAssignableFrom(input.getClass());
+        return null == input || null == type || ClassUtil.isAssignableFrom(type, input.getClass());
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.predicate.PrimitivePredicate;
 
 /**
  * An <code>IsEqual</code> is a {@link java.util.function.Predicate} that checks that the input is
@@ -32,7 +33,7 @@ import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
  */
 @Since("1.0.0")
 @Summary("Checks if an input is equal to a provided value")
-public class IsEqual extends KoryphePredicate<Object> {
+public class IsEqual extends KoryphePredicate<Object> implements PrimitivePredicate {
     private Object controlValue;
 
     public IsEqual() {
@@ -62,6 +63,22 @@ public class IsEqual extends KoryphePredicate<Object> {
         return controlValue.equals(input);
     }
 
+    @Override
+    public boolean testInt(final int input) {
+        return controlValue instanceof Integer && (Integer) controlValue == input;
+    }
+
+    @Override
+    public boolean testLong(final long input) {
+        return controlValue instanceof Long && (Long) controlValue == input;
+    }
+
+    @Override
+    public boolean testDouble(final double input) {
+        return controlValue instanceof Double
+                && Double.doubleToLongBits((Double) controlValue) == Double.doubleToLongBits(input);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
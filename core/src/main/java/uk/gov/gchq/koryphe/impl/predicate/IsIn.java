@@ -17,41 +17,50 @@
 package uk.gov.gchq.koryphe.impl.predicate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.ValueSets;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
  * An <code>IsIn</code> is a {@link java.util.function.Predicate} that checks that the input is
  * in a set of allowed values.
+ * <p>
+ * The allowed values are held in a set chosen from their type, see {@link ValueSets}, so
+ * large sets of {@link Long}, {@link Integer} or {@link String} values take less memory and
+ * are quicker to search than a {@link java.util.HashSet}. Setting <code>bloomFilter</code>
+ * checks a Bloom filter before the set, which rejects most values that are not allowed
+ * without reading the set.
+ * </p>
  */
 @Since("1.0.0")
 @Summary("Checks if an input is in a set of allowed values")
-public class IsIn extends KoryphePredicate<Object> {
+public class IsIn extends KoryphePredicate<Object> implements BatchPredicate<Object> {
     private Set<Object> allowedValues;
+    private boolean bloomFilter;
 
     public IsIn() {
         // Required for serialisation
     }
 
     public IsIn(final Collection<Object> controlData) {
-        this.allowedValues = new HashSet<>(controlData);
+        this.allowedValues = ValueSets.of(controlData);
     }
 
     public IsIn(final Object... controlData) {
-        this.allowedValues = Sets.newHashSet(controlData);
+        this.allowedValues = ValueSets.of(Arrays.asList(controlData));
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -63,20 +72,46 @@ public class IsIn extends KoryphePredicate<Object> {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public void setAllowedValues(final Object[] allowedValuesArray) {
-        if (null != allowedValuesArray) {
-            allowedValues = new HashSet<>(Arrays.asList(allowedValuesArray));
-        } else {
-            allowedValues = new HashSet<>(0);
-        }
+        allowedValues = ValueSets.of(null != allowedValuesArray ? Arrays.asList(allowedValuesArray) : null, bloomFilter);
     }
 
+    /**
+     * @return the allowed values, which may not be modifiable.
+     */
     @JsonIgnore
     public Set<Object> getAllowedValues() {
         return allowedValues;
     }
 
+    /**
+     * Set the allowed values. The set is used as given, rather than one chosen from
+     * the type of the values, unless a Bloom filter is checked first, see
+     * {@link #setBloomFilter(boolean)}.
+     *
+     * @param allowedValues the allowed values.
+     */
     public void setAllowedValues(final Set<Object> allowedValues) {
-        this.allowedValues = allowedValues;
+        this.allowedValues = bloomFilter && null != allowedValues ? ValueSets.of(allowedValues, true) : allowedValues;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Check a Bloom filter before the allowed values. This is worthwhile for large sets
+     * of allowed values when most inputs are not allowed. While the filter is checked, and
+     * when it is turned on or off, the allowed values are held in a copy chosen from the type
+     * of the values, so a set given to {@link #setAllowedValues(Set)} is not used as is.
+     *
+     * @param bloomFilter true if a Bloom filter should be checked first.
+     */
+    public void setBloomFilter(final boolean bloomFilter) {
+        this.bloomFilter = bloomFilter;
+        if (null != allowedValues && bloomFilter != ValueSets.isBloomFiltered(allowedValues)) {
+            allowedValues = ValueSets.of(allowedValues, bloomFilter);
+        }
     }
 
     @Override
@@ -84,6 +119,23 @@ public class IsIn extends KoryphePredicate<Object> {
         return null != allowedValues && allowedValues.contains(input);
     }
 
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        final Set<Object> values = allowedValues;
+        if (null == values) {
+            return 0;
+        }
+
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            if (values.contains(column[row])) {
+                result[passed++] = row;
+            }
+        }
+        return passed;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -97,6 +149,7 @@ public class IsIn extends KoryphePredicate<Object> {
         final IsIn isIn = (IsIn) obj;
         return new EqualsBuilder()
                 .append(allowedValues, isIn.allowedValues)
+                .append(bloomFilter, isIn.bloomFilter)
                 .isEquals();
     }
 
@@ -104,6 +157,7 @@ public class IsIn extends KoryphePredicate<Object> {
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(allowedValues)
+                .append(bloomFilter)
                 .toHashCode();
     }
 
@@ -111,6 +165,7 @@ public class IsIn extends KoryphePredicate<Object> {
     public String toString() {
         return new ToStringBuilder(this)
                 .append("allowedValues", allowedValues)
+                .append("bloomFilter", bloomFilter)
                 .toString();
     }
 }
@@ -25,8 +25,11 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.predicate.PrimitivePredicate;
 import uk.gov.gchq.koryphe.signature.InputValidator;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 /**
  * An <code>IsLessThan</code> is a {@link java.util.function.Predicate} that checks that the input
@@ -35,7 +38,7 @@ import uk.gov.gchq.koryphe.signature.InputValidator;
  */
 @Since("1.0.0")
 @Summary("Checks if a comparable is less than a provided value")
-public class IsLessThan extends KoryphePredicate<Comparable> implements InputValidator {
+public class IsLessThan extends KoryphePredicate<Comparable> implements InputValidator, PrimitivePredicate, BatchPredicate<Comparable> {
     private Comparable controlValue;
     private boolean orEqualTo;
 
@@ -72,7 +75,7 @@ public class IsLessThan extends KoryphePredicate<Comparable> implements InputVal
 
     @Override
     public boolean test(final Comparable input) {
-        if (null == input || !controlValue.getClass().isAssignableFrom(input.getClass())) {
+        if (null == input || !ClassUtil.isAssignableFrom(controlValue.getClass(), input.getClass())) {
             return false;
         }
 
@@ -84,6 +87,49 @@ public class IsLessThan extends KoryphePredicate<Comparable> implements InputVal
         return compareVal > 0;
     }
 
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        final Class<?> controlClass = controlValue.getClass();
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            final Object value = column[row];
+            if (null != value && (controlClass == value.getClass() || ClassUtil.isAssignableFrom(controlClass, value.getClass()))
+                    && isMatch(controlValue.compareTo(value))) {
+                result[passed++] = row;
+            }
+        }
+        return passed;
+    }
+
+    @Override
+    public boolean testInt(final int input) {
+        if (controlValue instanceof Integer) {
+            return isMatch(Integer.compare((Integer) controlValue, input));
+        }
+        return test(Integer.valueOf(input));
+    }
+
+    @Override
+    public boolean testLong(final long input) {
+        if (controlValue instanceof Long) {
+            return isMatch(Long.compare((Long) controlValue, input));
+        }
+        return test(Long.valueOf(input));
+    }
+
+    @Override
+    public boolean testDouble(final double input) {
+        if (controlValue instanceof Double) {
+            return isMatch(Double.compare((Double) controlValue, input));
+        }
+        return test(Double.valueOf(input));
+    }
+
+    private boolean isMatch(final int compareVal) {
+        return orEqualTo ? compareVal >= 0 : compareVal > 0;
+    }
+
     @Override
     public ValidationResult isInputValid(final Class<?>... arguments) {
         final ValidationResult result = new ValidationResult();
@@ -97,7 +143,7 @@ public class IsLessThan extends KoryphePredicate<Comparable> implements InputVal
             return result;
         }
 
-        if (!controlValue.getClass().isAssignableFrom(arguments[0])) {
+        if (!ClassUtil.isAssignableFrom(controlValue.getClass(), arguments[0])) {
             result.addError("Control value class " + controlValue.getClass().getName() + " is not compatible with the input type: " + arguments[0]);
         }
 
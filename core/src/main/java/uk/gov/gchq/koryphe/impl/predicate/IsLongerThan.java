@@ -26,6 +26,7 @@ import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.impl.function.Length;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 import uk.gov.gchq.koryphe.signature.InputValidator;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 import java.util.Map;
 
@@ -104,10 +105,10 @@ public class IsLongerThan extends KoryphePredicate<Object> implements InputValid
             return result;
         }
 
-        if (!String.class.isAssignableFrom(arguments[0])
-                && !Object[].class.isAssignableFrom(arguments[0])
-                && !Iterable.class.isAssignableFrom(arguments[0])
-                && !Map.class.isAssignableFrom(arguments[0])) {
+        if (!ClassUtil.isAssignableFrom(String.class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Object[].class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Iterable.class, arguments[0])
+                && !ClassUtil.isAssignableFrom(Map.class, arguments[0])) {
             result.addError("Input class " + arguments[0].getName() + " must be one of the following: "
                     + String.class.getName() + ", "
                     + Object[].class.getName() + ", "
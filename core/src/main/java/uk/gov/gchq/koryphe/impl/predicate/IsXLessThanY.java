@@ -21,6 +21,7 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.signature.InputValidator;
 import uk.gov.gchq.koryphe.tuple.predicate.KoryphePredicate2;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 /**
  * An <code>IsXLessThanY</code> is a {@link java.util.function.BiPredicate} that checks that the first input
@@ -44,7 +45,7 @@ public class IsXLessThanY extends KoryphePredicate2<Comparable, Comparable> impl
             return result;
         }
 
-        if (!arguments[0].equals(arguments[1]) || !Comparable.class.isAssignableFrom(arguments[0])) {
+        if (!arguments[0].equals(arguments[1]) || !ClassUtil.isAssignableFrom(Comparable.class, arguments[0])) {
             result.addError("Inputs must be the same class type and comparable: " + arguments[0] + "," + arguments[1]);
         }
 
@@ -25,9 +25,11 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.AhoCorasick;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -35,11 +37,18 @@ import java.util.regex.Pattern;
  * A {@link MultiRegex} is a {@link KoryphePredicate} that returns true
  * if an input string matches a provided multiregex pattern, false otherwise.
  * Multiple patterns are passed in as an array.
+ * <p>
+ * The literal strings that a match of each pattern must contain are found when the patterns
+ * are set, and are searched for together in a single pass over the input. Only the patterns
+ * whose literals appear in the input, and those without any required literals, are then
+ * matched against it.
+ * </p>
  */
 @Since("1.0.0")
 @Summary("Checks if a string matches at least one pattern")
 public class MultiRegex extends KoryphePredicate<String> {
     private Pattern[] patterns;
+    private Prefilter prefilter;
 
     public MultiRegex() {
         this((Pattern[]) null);
@@ -61,19 +70,33 @@ public class MultiRegex extends KoryphePredicate<String> {
         } else {
             this.patterns = new Pattern[0];
         }
+        this.prefilter = new Prefilter(this.patterns);
     }
 
     @Override
     public boolean test(final String input) {
+        return null != matchingPattern(input);
+    }
+
+    /**
+     * Find the first of the patterns that the input matches, for example to record why the
+     * input was accepted.
+     *
+     * @param input the input to match.
+     * @return the first pattern the input matches, or null if it matches none of them.
+     */
+    public Pattern matchingPattern(final String input) {
         if (null == input || input.getClass() != String.class) {
-            return false;
+            return null;
         }
-        for (final Pattern pattern : patterns) {
-            if (pattern.matcher(input).matches()) {
-                return true;
+
+        final BitSet candidates = prefilter.candidates(input);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (patterns[i].matcher(input).matches()) {
+                return patterns[i];
             }
         }
-        return false;
+        return null;
     }
 
     @Override
@@ -107,6 +130,43 @@ public class MultiRegex extends KoryphePredicate<String> {
                 .toString();
     }
 
+    /**
+     * Finds the patterns that an input might match, from the literal strings each pattern
+     * requires. A pattern without any required literals might match any input.
+     */
+    private static final class Prefilter {
+        private final BitSet unfiltered = new BitSet();
+        private final int[] literalPatterns;
+        private final AhoCorasick literals;
+
+        private Prefilter(final Pattern[] patterns) {
+            final List<String> needles = new ArrayList<>();
+            final List<Integer> needlePatterns = new ArrayList<>();
+            for (int i = 0; i < patterns.length; i++) {
+                final String literal = RegexLiterals.longestRequiredLiteral(patterns[i]);
+                if (null == literal) {
+                    unfiltered.set(i);
+                } else {
+                    needles.add(literal);
+                    needlePatterns.add(i);
+                }
+            }
+            literalPatterns = needlePatterns.stream().mapToInt(Integer::intValue).toArray();
+            literals = needles.isEmpty() ? null : new AhoCorasick(needles);
+        }
+
+        private BitSet candidates(final String input) {
+            final BitSet candidates = (BitSet) unfiltered.clone();
+            if (null != literals) {
+                final BitSet found = literals.findAll(input);
+                for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                    candidates.set(literalPatterns[i]);
+                }
+            }
+            return candidates;
+        }
+    }
+
     /**
      * Utility method to convert an array of {@link java.util.regex.Pattern}s to
      * and array of {@link String}s.
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 import uk.gov.gchq.koryphe.signature.InputValidator;
 import uk.gov.gchq.koryphe.signature.Signature;
@@ -39,7 +40,7 @@ import java.util.function.Predicate;
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
 @Since("1.0.0")
 @Summary("Returns the inverse of a predicate")
-public class Not<I> extends KoryphePredicate<I> implements InputValidator {
+public class Not<I> extends KoryphePredicate<I> implements BatchPredicate<I>, InputValidator {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
     private Predicate<I> predicate;
 
@@ -63,6 +64,28 @@ public class Not<I> extends KoryphePredicate<I> implements InputValidator {
         return null != predicate && !predicate.test(input);
     }
 
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        if (null == predicate) {
+            return 0;
+        }
+
+        // The rows that pass the predicate are a subsequence of the rows tested, so the
+        // rows that fail can be found by merging the two.
+        final int[] matched = new int[count];
+        final int matchedCount = BatchPredicate.of(predicate).testColumn(column, rows, count, matched);
+        int passed = 0;
+        int next = 0;
+        for (int i = 0; i < count; i++) {
+            if (next < matchedCount && matched[next] == rows[i]) {
+                next++;
+            } else {
+                result[passed++] = rows[i];
+            }
+        }
+        return passed;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -23,9 +23,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.PredicateComposite;
-import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
-import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -53,23 +51,22 @@ public class Or<I> extends PredicateComposite<I, Predicate<I>> {
 
     @Override
     public boolean test(final I input) {
-        for (final Predicate<I> predicate : components) {
-            try {
-                if (predicate.test(input)) {
-                    return true;
-                }
-            } catch (final ClassCastException e) {
-                // This may occur if the predicate was given a tuple1 and the tuple1 was automatically unpacked.
-                if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
-                    if (((TupleAdaptedPredicate) predicate).getPredicate().test(input)) {
-                        return true;
-                    }
-                } else {
-                    throw e;
-                }
-            }
-        }
-        return false;
+        return anyComponentReturns(input, true);
+    }
+
+    /**
+     * Test the values at the given rows of a column, applying each predicate only to the
+     * rows that have not already passed one of the predicates before it.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @param result the array to write the rows that pass to.
+     * @return the number of rows that passed any of the predicates.
+     */
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        return testColumnAny(column, rows, count, result);
     }
 
     @Override
@@ -24,18 +24,28 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * A {@link Regex} is a {@link KoryphePredicate} that returns true if an input
  * string matches a supplied regex pattern, false otherwise.
+ * <p>
+ * Patterns that match a literal string, optionally preceded or followed by <code>.*</code>,
+ * are matched using {@link String#equals(Object)}, {@link String#startsWith(String)},
+ * {@link String#endsWith(String)} or {@link String#contains(CharSequence)}. Other patterns
+ * are matched with a {@link Matcher} that is reused by each thread.
+ * </p>
  */
 @Since("1.0.0")
 @Summary("Checks if a string matches a pattern")
-public class Regex extends KoryphePredicate<String> {
+public class Regex extends KoryphePredicate<String> implements BatchPredicate<String> {
     private Pattern controlValue;
+    private RegexLiterals.LiteralMatch literalMatch;
+    private ThreadLocal<Matcher> matchers;
 
     public Regex() {
         // Required for serialisation
@@ -46,7 +56,7 @@ public class Regex extends KoryphePredicate<String> {
     }
 
     public Regex(final Pattern controlValue) {
-        this.controlValue = controlValue;
+        setControlValue(controlValue);
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -57,12 +67,51 @@ public class Regex extends KoryphePredicate<String> {
 
     public void setControlValue(final Pattern controlValue) {
         this.controlValue = controlValue;
+        if (null != controlValue) {
+            literalMatch = RegexLiterals.literalMatch(controlValue);
+            matchers = ThreadLocal.withInitial(() -> controlValue.matcher(""));
+        } else {
+            literalMatch = null;
+            matchers = null;
+        }
     }
 
     @Override
     public boolean test(final String input) {
-        return !(null == input || input.getClass() != String.class)
-                && controlValue.matcher(input).matches();
+        return !(null == input || input.getClass() != String.class) && matches(input, null);
+    }
+
+    // Matches the input with the literal match if it applies, otherwise with the given
+    // matcher, or the thread's matcher if none is given.
+    private boolean matches(final String input, final Matcher matcher) {
+        final RegexLiterals.LiteralMatch literal = literalMatch;
+        if (null != literal && literal.appliesTo(input)) {
+            return literal.matches(input);
+        }
+        return (null != matcher ? matcher : matchers.get()).reset(input).matches();
+    }
+
+    /**
+     * Test the values at the given rows of a column, reusing a single {@link Matcher}.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @param result the array to write the rows that pass to.
+     * @return the number of rows that passed.
+     */
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        final Matcher matcher = controlValue.matcher("");
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            final Object value = column[row];
+            if (null != value && value.getClass() == String.class && matches((String) value, matcher)) {
+                result[passed++] = row;
+            }
+        }
+        return passed;
     }
 
     @Override
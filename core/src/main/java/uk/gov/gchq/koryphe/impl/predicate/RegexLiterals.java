@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the literal strings that any string matching a {@link Pattern} must contain, and
+ * recognises patterns simple enough to be matched with {@link String} methods instead.
+ * <p>
+ * The analysis is conservative: only literal characters at the top level of the pattern
+ * are considered, and anything that is not understood ends the current literal. A pattern
+ * with alternation at the top level, inline flags or any flags other than
+ * {@link Pattern#LITERAL} has no required literals.
+ * </p>
+ */
+final class RegexLiterals {
+    private static final String META_CHARACTERS = "\\[](){}.*+?^$|";
+
+    private RegexLiterals() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @param pattern the pattern.
+     * @return the literal strings any match must contain, in the order they appear in the pattern.
+     */
+    static List<String> requiredLiterals(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        if (Pattern.LITERAL == pattern.flags()) {
+            return regex.isEmpty() ? Collections.emptyList() : Collections.singletonList(regex);
+        }
+        if (0 != pattern.flags()) {
+            return Collections.emptyList();
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if ('|' == c) {
+                return Collections.emptyList();
+            } else if ('\\' == c) {
+                if (i + 1 >= regex.length()) {
+                    return Collections.emptyList();
+                }
+                final char escaped = regex.charAt(i + 1);
+                if ('Q' == escaped) {
+                    final int end = regex.indexOf("\\E", i + 2);
+                    final int quoteEnd = end < 0 ? regex.length() : end;
+                    literal.append(regex, i + 2, quoteEnd);
+                    i = end < 0 ? regex.length() : end + 2;
+                    continue;
+                } else if (!Character.isLetterOrDigit(escaped)) {
+                    literal.append(escaped);
+                    i += 2;
+                } else {
+                    // Escapes such as \d or \x41 are not literal, nor are their arguments
+                    add(literals, literal);
+                    i = skipEscape(regex, i);
+                    if (i < 0) {
+                        return Collections.emptyList();
+                    }
+                }
+                continue;
+            } else if ('(' == c) {
+                if (regex.startsWith("(?", i) && i + 2 < regex.length()
+                        && (Character.isLetter(regex.charAt(i + 2)) || '-' == regex.charAt(i + 2))) {
+                    // Inline flags may change how the rest of the pattern matches
+                    return Collections.emptyList();
+                }
+                add(literals, literal);
+                i = skipGroup(regex, i);
+                if (i < 0) {
+                    return Collections.emptyList();
+                }
+                continue;
+            } else if ('[' == c) {
+                add(literals, literal);
+                i = skipClass(regex, i);
+                if (i < 0) {
+                    return Collections.emptyList();
+                }
+                continue;
+            } else if ('?' == c || '*' == c || '{' == c) {
+                // The quantified character may not appear
+                if (literal.length() > 0) {
+                    literal.setLength(literal.length() - 1);
+                }
+                if (literal.length() > 0 && Character.isHighSurrogate(literal.charAt(literal.length() - 1))) {
+                    literal.setLength(literal.length() - 1);
+                }
+                add(literals, literal);
+                if ('{' == c) {
+                    final int end = regex.indexOf('}', i);
+                    if (end < 0) {
+                        return Collections.emptyList();
+                    }
+                    i = end;
+                }
+            } else if ('+' == c) {
+                // The quantified character appears at least once, but may be repeated
+                add(literals, literal);
+            } else if (META_CHARACTERS.indexOf(c) >= 0) {
+                add(literals, literal);
+            } else {
+                literal.append(c);
+            }
+            i++;
+        }
+        add(literals, literal);
+        return literals;
+    }
+
+    /**
+     * @param pattern the pattern.
+     * @return the longest literal string any match must contain, or null if there is none.
+     */
+    static String longestRequiredLiteral(final Pattern pattern) {
+        String longest = null;
+        for (final String literal : requiredLiterals(pattern)) {
+            if (null == longest || literal.length() > longest.length()) {
+                longest = literal;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Recognise a pattern that matches a literal string, optionally preceded or followed by
+     * <code>.*</code>, such as <code>abc</code>, <code>abc.*</code>, <code>.*\\.gov</code>
+     * or <code>.*abc.*</code>.
+     *
+     * @param pattern the pattern.
+     * @return a match that can be used instead of the pattern, or null if the pattern is not that simple.
+     */
+    static LiteralMatch literalMatch(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        if (Pattern.LITERAL == pattern.flags()) {
+            return new LiteralMatch(regex, false, false, true);
+        }
+        if (0 != pattern.flags() && Pattern.DOTALL != pattern.flags()) {
+            return null;
+        }
+
+        final StringBuilder literal = new StringBuilder();
+        final boolean anyPrefix = regex.startsWith(".*");
+        boolean anySuffix = false;
+        int i = anyPrefix ? 2 : 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if ('\\' == c) {
+                if (regex.startsWith("\\Q", i)) {
+                    final int end = regex.indexOf("\\E", i + 2);
+                    literal.append(regex, i + 2, end < 0 ? regex.length() : end);
+                    i = end < 0 ? regex.length() : end + 2;
+                    continue;
+                }
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(i + 1));
+                i += 2;
+            } else if ('.' == c && i + 2 == regex.length() && '*' == regex.charAt(i + 1)) {
+                anySuffix = true;
+                i += 2;
+            } else if (META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+
+        // Avoid splitting a surrogate pair, which the pattern would match as a single code point
+        if (literal.length() > 0 && (Character.isLowSurrogate(literal.charAt(0))
+                || Character.isHighSurrogate(literal.charAt(literal.length() - 1)))) {
+            return null;
+        }
+        return new LiteralMatch(literal.toString(), anyPrefix, anySuffix, Pattern.DOTALL == pattern.flags());
+    }
+
+    /**
+     * A match of a literal string, optionally preceded or followed by any characters.
+     * Unless the pattern was compiled with {@link Pattern#DOTALL}, any characters does
+     * not include line terminators, so the match only applies to inputs without them.
+     */
+    static final class LiteralMatch {
+        private final String literal;
+        private final boolean anyPrefix;
+        private final boolean anySuffix;
+        private final boolean dotAll;
+
+        private LiteralMatch(final String literal, final boolean anyPrefix, final boolean anySuffix, final boolean dotAll) {
+            this.literal = literal;
+            this.anyPrefix = anyPrefix;
+            this.anySuffix = anySuffix;
+            this.dotAll = dotAll;
+        }
+
+        /**
+         * @param input the input.
+         * @return true if {@link #matches(String)} gives the same result as the pattern for the input.
+         */
+        boolean appliesTo(final String input) {
+            return dotAll || !(anyPrefix || anySuffix) || !containsLineTerminator(input);
+        }
+
+        /**
+         * @param input the input.
+         * @return true if the input matches.
+         */
+        boolean matches(final String input) {
+            if (anyPrefix) {
+                return anySuffix ? input.contains(literal) : input.endsWith(literal);
+            }
+            return anySuffix ? input.startsWith(literal) : input.equals(literal);
+        }
+
+        private static boolean containsLineTerminator(final String input) {
+            for (int i = 0; i < input.length(); i++) {
+                final char c = input.charAt(i);
+                if ('\n' == c || '\r' == c || '\u0085' == c || '\u2028' == c || '\u2029' == c) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static void add(final List<String> literals, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+
+    // The index after the group starting at the given index, or -1 if it is not closed.
+    private static int skipGroup(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if ('\\' == c) {
+                if (regex.startsWith("\\Q", i)) {
+                    final int end = regex.indexOf("\\E", i + 2);
+                    if (end < 0) {
+                        return -1;
+                    }
+                    i = end + 2;
+                    continue;
+                }
+                i = skipEscape(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            } else if ('[' == c) {
+                i = skipClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            } else if ('(' == c) {
+                depth++;
+            } else if (')' == c) {
+                depth--;
+                if (0 == depth) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    // The index after the character class starting at the given index, or -1 if it is not closed.
+    private static int skipClass(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if ('\\' == c) {
+                i = skipEscape(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            } else if ('[' == c) {
+                depth++;
+                // A closing bracket straight after the opening bracket, or its negation, is literal
+                if (regex.startsWith("^", i + 1)) {
+                    i++;
+                }
+                if (regex.startsWith("]", i + 1)) {
+                    i++;
+                }
+            } else if (']' == c) {
+                depth--;
+                if (0 == depth) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    // The index after the escape starting at the given index, including any argument of the
+    // escape such as the digits of \x41 or the name of \p{Alpha}, or -1 if it is not understood.
+    private static int skipEscape(final String regex, final int start) {
+        final int i = start + 2;
+        if (i > regex.length()) {
+            return -1;
+        }
+
+        final char escaped = regex.charAt(start + 1);
+        switch (escaped) {
+            case 'x':
+                if (regex.startsWith("{", i)) {
+                    return skipBraces(regex, i);
+                }
+                return isHexDigits(regex, i, 2) ? i + 2 : -1;
+            case 'u':
+                return isHexDigits(regex, i, 4) ? i + 4 : -1;
+            case '0':
+                // \0n, \0nn or \0mnn, where m is at most 3
+                if (!isOctalDigit(regex, i)) {
+                    return -1;
+                }
+                if (!isOctalDigit(regex, i + 1)) {
+                    return i + 1;
+                }
+                return regex.charAt(i) <= '3' && isOctalDigit(regex, i + 2) ? i + 3 : i + 2;
+            case 'c':
+                return i < regex.length() ? i + 1 : -1;
+            case 'k':
+                if (!regex.startsWith("<", i)) {
+                    return -1;
+                }
+                final int end = regex.indexOf('>', i);
+                return end < 0 ? -1 : end + 1;
+            case 'p':
+            case 'P':
+                if (regex.startsWith("{", i)) {
+                    return skipBraces(regex, i);
+                }
+                return i < regex.length() ? i + 1 : -1;
+            case 'N':
+                return regex.startsWith("{", i) ? skipBraces(regex, i) : -1;
+            case 'b':
+                return regex.startsWith("{", i) ? skipBraces(regex, i) : i;
+            default:
+                if (escaped >= '1' && escaped <= '9') {
+                    // A back reference may take more digits if the group exists
+                    int digit = i;
+                    while (digit < regex.length() && Character.isDigit(regex.charAt(digit))) {
+                        digit++;
+                    }
+                    return digit;
+                }
+                return i;
+        }
+    }
+
+    // The index after the braces starting at the given index, or -1 if they are not closed.
+    private static int skipBraces(final String regex, final int start) {
+        final int end = regex.indexOf('}', start);
+        return end < 0 ? -1 : end + 1;
+    }
+
+    // True if there are the given number of hexadecimal digits at the given index.
+    private static boolean isHexDigits(final String regex, final int start, final int count) {
+        if (start + count > regex.length()) {
+            return false;
+        }
+        for (int i = start; i < start + count; i++) {
+            final char c = regex.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // True if there is an octal digit at the given index.
+    private static boolean isOctalDigit(final String regex, final int index) {
+        return index < regex.length() && regex.charAt(index) >= '0' && regex.charAt(index) <= '7';
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.Since;
+import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.AhoCorasick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A <code>StringContainsAny</code> is a {@link java.util.function.Predicate} that checks if a provided
+ * {@link String} contains any of a list of {@link String} values.
+ * The values are searched for together in a single pass over the input, so this is much quicker
+ * than an {@link Or} of many {@link StringContains} predicates.
+ * The {@link java.util.function.Predicate} is case-sensitive by default, this can be changed with
+ * <code>setIgnoreCase(true)</code>.
+ */
+@Since("2.5.3")
+@Summary("Checks if a string contains any of some values")
+public class StringContainsAny extends KoryphePredicate<String> {
+    private List<String> values = Collections.emptyList();
+    private boolean ignoreCase;
+    private volatile AhoCorasick automaton;
+
+    public StringContainsAny() {
+        // Required for serialisation
+    }
+
+    public StringContainsAny(final String... values) {
+        this(Arrays.asList(values), false);
+    }
+
+    public StringContainsAny(final Collection<String> values, final boolean ignoreCase) {
+        setValues(values);
+        this.ignoreCase = ignoreCase;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public void setValues(final Collection<String> values) {
+        this.values = null != values ? Collections.unmodifiableList(new ArrayList<>(values)) : Collections.emptyList();
+        this.automaton = null;
+    }
+
+    public boolean getIgnoreCase() {
+        return ignoreCase;
+    }
+
+    public void setIgnoreCase(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.automaton = null;
+    }
+
+    @Override
+    public boolean test(final String input) {
+        return null != input && automaton().containsAny(input);
+    }
+
+    /**
+     * Find the values that the input contains, for example to record why the input was accepted.
+     *
+     * @param input the input to search.
+     * @return the values the input contains, in the order of the values.
+     */
+    public List<String> matchingValues(final String input) {
+        if (null == input) {
+            return Collections.emptyList();
+        }
+
+        final AhoCorasick current = automaton();
+        final BitSet found = current.findAll(input);
+        return found.stream()
+                .mapToObj(current.getNeedles()::get)
+                .collect(Collectors.toList());
+    }
+
+    // The automaton is built when first needed, as the values and ignoreCase may be set in either order.
+    private AhoCorasick automaton() {
+        AhoCorasick current = automaton;
+        if (null == current) {
+            current = new AhoCorasick(values.stream().filter(Objects::nonNull).collect(Collectors.toList()), ignoreCase);
+            automaton = current;
+        }
+        return current;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (null == obj || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+
+        final StringContainsAny that = (StringContainsAny) obj;
+
+        return new EqualsBuilder()
+                .append(values, that.values)
+                .append(ignoreCase, that.ignoreCase)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(23, 59)
+                .append(values)
+                .append(ignoreCase)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("values", values)
+                .append("ignoreCase", ignoreCase)
+                .toString();
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
+import java.time.Clock;
 import java.util.TimeZone;
 
 /**
@@ -82,7 +83,7 @@ public abstract class AbstractInTimeRange<T extends Comparable<T>> extends Koryp
 
     @Override
     public boolean test(final T value) {
-        return predicate.test(value, value);
+        return predicate.testValue(value);
     }
 
     public String getStart() {
@@ -131,6 +132,16 @@ public abstract class AbstractInTimeRange<T extends Comparable<T>> extends Koryp
         predicate.setTimeZone(timeZone);
     }
 
+    /**
+     * Use a different clock to get the current time.
+     *
+     * @param clock the clock.
+     * @see AbstractInTimeRangeDual#useClock(Clock)
+     */
+    public void useClock(final Clock clock) {
+        predicate.useClock(clock);
+    }
+
     protected AbstractInTimeRangeDual<T> getPredicate() {
         return predicate;
     }
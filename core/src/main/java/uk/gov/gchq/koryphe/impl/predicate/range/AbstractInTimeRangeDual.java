@@ -26,13 +26,17 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.tuple.predicate.KoryphePredicate2;
+import uk.gov.gchq.koryphe.util.CoarseClock;
 import uk.gov.gchq.koryphe.util.DateUtil;
 import uk.gov.gchq.koryphe.util.RangeUtil;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
+import java.time.Clock;
 import java.util.TimeZone;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * <p>
  * An <code>AbstractInTimeRangeDual</code> is a {@link java.util.function.Predicate}
@@ -65,6 +69,9 @@ import java.util.function.Function;
  * At the point when test is called on the class the
  * current system time is used to calculate the start and end values based on:
  * System.currentTimeMillis() + offset.
+ * The start and end values are only recalculated when the current time changes.
+ * The current time is read from the system clock, unless another {@link Clock}
+ * is used, such as a {@link CoarseClock}.
  * </p>
  * <p>
  * By default checks are carried out assuming the data will be in milliseconds.
@@ -107,6 +114,9 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     private final Function<Long, T> toT;
 
+    private volatile Clock clock = Clock.systemUTC();
+    private volatile Bounds<T> bounds;
+
     protected AbstractInTimeRangeDual() {
         this(t -> (T) t);
     }
@@ -123,15 +133,32 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         this.endTime = timeUnit.fromMilliSeconds(DateUtil.parseTime(end, timeZone));
         this.startOffsetTime = timeUnit.fromMilliSeconds(TimeUnit.asMilliSeconds(offsetUnit, startOffset));
         this.endOffsetTime = timeUnit.fromMilliSeconds(TimeUnit.asMilliSeconds(offsetUnit, endOffset));
+        this.bounds = null;
+    }
+
+    /**
+     * Use a different clock to get the current time, which offsets are relative to
+     * when no start or end time is set.
+     *
+     * @param clock the clock.
+     */
+    public void useClock(final Clock clock) {
+        requireNonNull(clock, "clock is required");
+        this.clock = clock;
+        this.bounds = null;
     }
 
     @Override
     public boolean test(final Comparable<T> startValue, final Comparable<T> endValue) {
+        final Bounds<T> current = getBounds();
+        if (current.numeric.supports(startValue) && current.numeric.supports(endValue)) {
+            return current.numeric.test(startValue, endValue);
+        }
         return RangeUtil.inRange(
                 startValue,
                 endValue,
-                getValueFromOffset(startTime, startOffsetTime),
-                getValueFromOffset(endTime, endOffsetTime),
+                current.start,
+                current.end,
                 startInclusive,
                 endInclusive,
                 startFullyContained,
@@ -139,12 +166,57 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         );
     }
 
-    private T getValueFromOffset(final Long value, final Long offset) {
+    /**
+     * Test a single value is within the range. This gives the same result as testing the
+     * value as both the start and end values, but with half of the comparisons.
+     *
+     * @param value the value to test.
+     * @return true if the value is within the range.
+     */
+    public boolean testValue(final Comparable<T> value) {
+        final Bounds<T> current = getBounds();
+        if (current.numeric.supports(value)) {
+            return current.numeric.test(value);
+        }
+        return RangeUtil.valueInRange(
+                value,
+                current.start,
+                current.end,
+                startInclusive,
+                endInclusive,
+                startFullyContained,
+                endFullyContained
+        );
+    }
+
+    // The bounds are kept until the current time changes, or for good if they do not depend on it.
+    private Bounds<T> getBounds() {
+        final Bounds<T> current = bounds;
+        final boolean relative = (null == startTime && null != startOffsetTime)
+                || (null == endTime && null != endOffsetTime);
+        if (null != current && !relative) {
+            return current;
+        }
+
+        final long now = relative ? clock.millis() : 0L;
+        if (null != current && current.millis == now) {
+            return current;
+        }
+
+        final T start = getValueFromOffset(startTime, startOffsetTime, now);
+        final T end = getValueFromOffset(endTime, endOffsetTime, now);
+        final Bounds<T> updated = new Bounds<>(now, start, end,
+                NumericRange.of(start, end, startInclusive, endInclusive, startFullyContained, endFullyContained));
+        bounds = updated;
+        return updated;
+    }
+
+    private T getValueFromOffset(final Long value, final Long offset, final long now) {
         if (null == offset) {
             return null != value ? toT.apply(value) : null;
         }
 
-        final long base = null != value ? value : timeUnit.fromMilliSeconds(System.currentTimeMillis());
+        final long base = null != value ? value : timeUnit.fromMilliSeconds(now);
         return toT.apply(base + offset);
     }
 
@@ -262,10 +334,12 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     protected void setStartInclusive(final Boolean startInclusive) {
         this.startInclusive = startInclusive;
+        this.bounds = null;
     }
 
     protected void setStartFullyContained(final Boolean startFullyContained) {
         this.startFullyContained = startFullyContained;
+        this.bounds = null;
     }
 
     protected void setEnd(final String end) {
@@ -278,10 +352,12 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     protected void setEndInclusive(final Boolean endInclusive) {
         this.endInclusive = endInclusive;
+        this.bounds = null;
     }
 
     protected void setEndFullyContained(final Boolean endFullyContained) {
         this.endFullyContained = endFullyContained;
+        this.bounds = null;
     }
 
     protected void setOffsetUnit(final TimeUnit offsetUnit) {
@@ -301,6 +377,20 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         this.timeZone = timeZone;
     }
 
+    private static final class Bounds<T> {
+        private final long millis;
+        private final T start;
+        private final T end;
+        private final NumericRange numeric;
+
+        private Bounds(final long millis, final T start, final T end, final NumericRange numeric) {
+            this.millis = millis;
+            this.start = start;
+            this.end = end;
+            this.numeric = numeric;
+        }
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public abstract static class BaseBuilder<
             B extends BaseBuilder<B, R, T>,
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 
 /**
@@ -54,7 +55,7 @@ import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 @JsonDeserialize(builder = InRange.Builder.class)
 @Since("1.1.0")
 @Summary("Checks if a comparable is within a provided range")
-public class InRange<T extends Comparable<T>> extends KoryphePredicate<T> {
+public class InRange<T extends Comparable<T>> extends KoryphePredicate<T> implements BatchPredicate<T> {
     private final InRangeDual<T> predicate;
 
     public InRange() {
@@ -63,7 +64,19 @@ public class InRange<T extends Comparable<T>> extends KoryphePredicate<T> {
 
     @Override
     public boolean test(final T value) {
-        return predicate.test(value, value);
+        return predicate.testValue(value);
+    }
+
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            if (predicate.testValue((Comparable<T>) column[row])) {
+                result[passed++] = row;
+            }
+        }
+        return passed;
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
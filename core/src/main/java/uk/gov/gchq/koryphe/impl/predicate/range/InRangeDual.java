@@ -68,6 +68,8 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
     private Boolean startFullyContained;
     private Boolean endFullyContained;
 
+    private volatile NumericRange numericRange;
+
     public void initialise() {
         if (null != getStart() && null != getEnd()
                 && !getStart().getClass().equals(getEnd().getClass())) {
@@ -77,6 +79,10 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
 
     @Override
     public boolean test(final Comparable<T> startValue, final Comparable<T> endValue) {
+        final NumericRange numeric = getNumericRange();
+        if (numeric.supports(startValue) && numeric.supports(endValue)) {
+            return numeric.test(startValue, endValue);
+        }
         return RangeUtil.inRange(
                 startValue, endValue,
                 start, end,
@@ -85,6 +91,36 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
         );
     }
 
+    /**
+     * Test a single value is within the range. This gives the same result as testing the
+     * value as both the start and end values, but with half of the comparisons.
+     *
+     * @param value the value to test.
+     * @return true if the value is within the range.
+     */
+    public boolean testValue(final Comparable<T> value) {
+        final NumericRange numeric = getNumericRange();
+        if (numeric.supports(value)) {
+            return numeric.test(value);
+        }
+        return RangeUtil.valueInRange(
+                value,
+                start, end,
+                startInclusive, endInclusive,
+                startFullyContained, endFullyContained
+        );
+    }
+
+    // Numeric bounds are held as primitives, so values of the same class avoid compareTo.
+    private NumericRange getNumericRange() {
+        NumericRange numeric = numericRange;
+        if (null == numeric) {
+            numeric = NumericRange.of(start, end, startInclusive, endInclusive, startFullyContained, endFullyContained);
+            numericRange = numeric;
+        }
+        return numeric;
+    }
+
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     public T getStart() {
         return start;
@@ -113,26 +149,32 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
 
     protected void setStart(final T start) {
         this.start = start;
+        this.numericRange = null;
     }
 
     protected void setEnd(final T end) {
         this.end = end;
+        this.numericRange = null;
     }
 
     protected void setStartInclusive(final Boolean startInclusive) {
         this.startInclusive = startInclusive;
+        this.numericRange = null;
     }
 
     protected void setEndInclusive(final Boolean endInclusive) {
         this.endInclusive = endInclusive;
+        this.numericRange = null;
     }
 
     protected void setStartFullyContained(final Boolean startFullyContained) {
         this.startFullyContained = startFullyContained;
+        this.numericRange = null;
     }
 
     protected void setEndFullyContained(final Boolean endFullyContained) {
         this.endFullyContained = endFullyContained;
+        this.numericRange = null;
     }
 
     @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate.range;
+
+import uk.gov.gchq.koryphe.util.RangeUtil;
+
+import java.util.Date;
+
+/**
+ * A <code>NumericRange</code> holds the bounds of a range as primitive longs or doubles, so
+ * values of the same class as the bounds can be tested with the primitive kernels in
+ * {@link RangeUtil} instead of through {@link Comparable#compareTo(Object)}.
+ * <p>
+ * {@link Long}, {@link Integer}, {@link Short} and {@link Byte} values are compared as longs,
+ * {@link Double} and {@link Float} values as doubles, and {@link Date} values by their time
+ * in milliseconds. This gives the same order as their <code>compareTo</code> methods.
+ * </p>
+ */
+final class NumericRange {
+    /**
+     * A range that does not support any values, for bounds that are not numeric.
+     */
+    static final NumericRange NONE = new NumericRange(null, false, 0L, 0L, 0.0, 0.0, false, false, false, false);
+
+    private final Class<?> type;
+    private final boolean floating;
+    private final long start;
+    private final long end;
+    private final double startDouble;
+    private final double endDouble;
+    private final boolean startInclusive;
+    private final boolean endInclusive;
+    private final boolean startFullyContained;
+    private final boolean endFullyContained;
+
+    private NumericRange(final Class<?> type, final boolean floating,
+                         final long start, final long end,
+                         final double startDouble, final double endDouble,
+                         final boolean startInclusive, final boolean endInclusive,
+                         final boolean startFullyContained, final boolean endFullyContained) {
+        this.type = type;
+        this.floating = floating;
+        this.start = start;
+        this.end = end;
+        this.startDouble = startDouble;
+        this.endDouble = endDouble;
+        this.startInclusive = startInclusive;
+        this.endInclusive = endInclusive;
+        this.startFullyContained = startFullyContained;
+        this.endFullyContained = endFullyContained;
+    }
+
+    /**
+     * Create a range from bounds of the same numeric class or {@link Date}.
+     *
+     * @param rangeStart          the start of the range, or null if it is unbounded.
+     * @param rangeEnd            the end of the range, or null if it is unbounded.
+     * @param startInclusive      true, or null, if the start of the range is inclusive.
+     * @param endInclusive        true, or null, if the end of the range is inclusive.
+     * @param startFullyContained true if the start of the range is fully contained.
+     * @param endFullyContained   true if the end of the range is fully contained.
+     * @return the range, or {@link #NONE} if the bounds are not numeric or have different classes.
+     */
+    static NumericRange of(final Object rangeStart, final Object rangeEnd,
+                           final Boolean startInclusive, final Boolean endInclusive,
+                           final Boolean startFullyContained, final Boolean endFullyContained) {
+        final Class<?> type = null != rangeStart ? rangeStart.getClass() : null != rangeEnd ? rangeEnd.getClass() : null;
+        if (null == type || (null != rangeStart && null != rangeEnd && rangeStart.getClass() != rangeEnd.getClass())) {
+            return NONE;
+        }
+
+        final boolean isStartInclusive = null == startInclusive || startInclusive;
+        final boolean isEndInclusive = null == endInclusive || endInclusive;
+        final boolean isStartFullyContained = null == startFullyContained ? RangeUtil.DEFAULT_FULLY_CONTAINED : startFullyContained;
+        final boolean isEndFullyContained = null == endFullyContained ? RangeUtil.DEFAULT_FULLY_CONTAINED : endFullyContained;
+        if (Double.class == type || Float.class == type) {
+            // Unbounded ends are inclusive of the lowest and highest values in the order of Double.compare
+            return new NumericRange(type, true, 0L, 0L,
+                    null != rangeStart ? ((Number) rangeStart).doubleValue() : Double.NEGATIVE_INFINITY,
+                    null != rangeEnd ? ((Number) rangeEnd).doubleValue() : Double.NaN,
+                    isStartInclusive || null == rangeStart, isEndInclusive || null == rangeEnd,
+                    isStartFullyContained, isEndFullyContained);
+        }
+        if (Long.class == type || Integer.class == type || Short.class == type || Byte.class == type || Date.class == type) {
+            return new NumericRange(type, false,
+                    null != rangeStart ? toLong(rangeStart) : Long.MIN_VALUE,
+                    null != rangeEnd ? toLong(rangeEnd) : Long.MAX_VALUE,
+                    0.0, 0.0,
+                    isStartInclusive || null == rangeStart, isEndInclusive || null == rangeEnd,
+                    isStartFullyContained, isEndFullyContained);
+        }
+        return NONE;
+    }
+
+    /**
+     * @param value the value.
+     * @return true if the value can be tested by this range.
+     */
+    boolean supports(final Object value) {
+        return null != value && value.getClass() == type;
+    }
+
+    /**
+     * @param value a value this range supports.
+     * @return true if the value is in the range.
+     */
+    boolean test(final Object value) {
+        if (floating) {
+            return RangeUtil.valueInDoubleRange(((Number) value).doubleValue(), startDouble, endDouble,
+                    startInclusive, endInclusive, startFullyContained, endFullyContained);
+        }
+        return RangeUtil.valueInLongRange(toLong(value), start, end,
+                startInclusive, endInclusive, startFullyContained, endFullyContained);
+    }
+
+    /**
+     * @param startValue a start value this range supports.
+     * @param endValue   an end value this range supports.
+     * @return true if the start and end values are in the range.
+     */
+    boolean test(final Object startValue, final Object endValue) {
+        if (floating) {
+            return RangeUtil.inDoubleRange(((Number) startValue).doubleValue(), ((Number) endValue).doubleValue(), startDouble, endDouble,
+                    startInclusive, endInclusive, startFullyContained, endFullyContained);
+        }
+        return RangeUtil.inLongRange(toLong(startValue), toLong(endValue), start, end,
+                startInclusive, endInclusive, startFullyContained, endFullyContained);
+    }
+
+    private static long toLong(final Object value) {
+        return value instanceof Date ? ((Date) value).getTime() : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.predicate;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An <code>AdaptiveOrder</code> holds the order in which the components of a
+ * {@link PredicateComposite} are tested, along with sampled statistics of the cost
+ * and result of each component. Components that are cheap and likely to decide the
+ * result of the composite are moved to the front.
+ * <p>
+ * Only a sample of tests are measured, and the statistics are only updated on those,
+ * so the cost of maintaining the order is small. The order is replaced rather than
+ * modified, so it can be read by many threads without locking.
+ * </p>
+ */
+final class AdaptiveOrder {
+    private static final int SAMPLE_RATE = 64;
+    private static final int SAMPLES_PER_REORDER = 32;
+    private static final long MAX_EVALUATIONS = 1 << 16;
+
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray trueResults;
+    private final AtomicLongArray nanos;
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile int[] order;
+
+    AdaptiveOrder(final int size) {
+        evaluations = new AtomicLongArray(size);
+        trueResults = new AtomicLongArray(size);
+        nanos = new AtomicLongArray(size);
+        order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+    }
+
+    int size() {
+        return order.length;
+    }
+
+    int[] getOrder() {
+        return order;
+    }
+
+    boolean shouldSample() {
+        return 0 == ThreadLocalRandom.current().nextInt(SAMPLE_RATE);
+    }
+
+    void record(final int component, final boolean result, final long elapsedNanos) {
+        evaluations.incrementAndGet(component);
+        if (result) {
+            trueResults.incrementAndGet(component);
+        }
+        nanos.addAndGet(component, elapsedNanos);
+    }
+
+    /**
+     * Mark the end of a sampled test, reordering the components if enough samples have
+     * been taken since the last reorder.
+     *
+     * @param decidingResult the component result that decides the result of the composite.
+     */
+    void sampled(final boolean decidingResult) {
+        if (0 == samples.incrementAndGet() % SAMPLES_PER_REORDER) {
+            reorder(decidingResult);
+        }
+    }
+
+    // The expected cost of a sequence of short-circuiting tests is lowest when they are sorted
+    // by their cost divided by the probability of deciding the result.
+    private synchronized void reorder(final boolean decidingResult) {
+        final int size = order.length;
+        final double[] ranks = new double[size];
+        boolean decay = false;
+        for (int i = 0; i < size; i++) {
+            final long evaluated = evaluations.get(i);
+            final long deciding = Math.max(0, decidingResult ? trueResults.get(i) : evaluated - trueResults.get(i));
+            final double cost = (nanos.get(i) + 1.0) / (evaluated + 1.0);
+            final double decidingRate = (deciding + 1.0) / (evaluated + 2.0);
+            ranks[i] = cost / decidingRate;
+            decay |= evaluated > MAX_EVALUATIONS;
+        }
+
+        final Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparingDouble(i -> ranks[i]));
+
+        final int[] newOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            newOrder[i] = sorted[i];
+        }
+        order = newOrder;
+
+        // Halve the statistics once they are large, so the order keeps adapting to recent inputs.
+        if (decay) {
+            for (int i = 0; i < size; i++) {
+                evaluations.updateAndGet(i, value -> value / 2);
+                trueResults.updateAndGet(i, value -> value / 2);
+                nanos.updateAndGet(i, value -> value / 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.predicate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A <code>BatchPredicate</code> is a {@link Predicate} that can test many values in one call.
+ * The values are held in a column, with a selection vector listing the rows of the column to
+ * test, and the rows that pass are returned as a new selection vector or a {@link BitSet}.
+ * The default implementation tests each value in turn; predicates can override
+ * {@link #testColumn(Object[], int[], int, int[])} with a faster loop over the values.
+ *
+ * @param <T> Type of input to be validated
+ * @see uk.gov.gchq.koryphe.tuple.TupleBatch
+ */
+@FunctionalInterface
+public interface BatchPredicate<T> extends Predicate<T> {
+    /**
+     * Test the values at the given rows of a column, writing the rows that pass to result.
+     * The result array may be the same as the rows array.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @param result the array to write the rows that pass to.
+     * @return the number of rows that passed.
+     */
+    default int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            if (test((T) column[row])) {
+                result[passed++] = row;
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Test the values at the given rows of a column.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @return the rows that passed.
+     */
+    default int[] testColumn(final Object[] column, final int[] rows, final int count) {
+        final int[] result = new int[count];
+        return Arrays.copyOf(result, testColumn(column, rows, count, result));
+    }
+
+    /**
+     * Test the values at the given rows of a column.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test.
+     * @return the rows that passed.
+     */
+    default BitSet testColumn(final Object[] column, final BitSet rows) {
+        final int[] selected = rows.stream().toArray();
+        final int[] result = new int[selected.length];
+        final int passed = testColumn(column, selected, selected.length, result);
+        final BitSet bits = new BitSet(column.length);
+        for (int i = 0; i < passed; i++) {
+            bits.set(result[i]);
+        }
+        return bits;
+    }
+
+    /**
+     * Test the values at the given rows of a list.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the list to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @return the rows that passed.
+     */
+    default int[] testColumn(final List<?> column, final int[] rows, final int count) {
+        return testColumn(column.toArray(), rows, count);
+    }
+
+    /**
+     * Test the values at the given rows of a list.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the list to test.
+     * @return the rows that passed.
+     */
+    default BitSet testColumn(final List<?> column, final BitSet rows) {
+        return testColumn(column.toArray(), rows);
+    }
+
+    /**
+     * @param predicate the predicate to adapt.
+     * @param <T>       Type of input to be validated
+     * @return the predicate if it is a <code>BatchPredicate</code>, otherwise a
+     * <code>BatchPredicate</code> that tests each value with it.
+     */
+    static <T> BatchPredicate<T> of(final Predicate<T> predicate) {
+        return predicate instanceof BatchPredicate ? (BatchPredicate<T>) predicate : predicate::test;
+    }
+}
@@ -27,6 +27,9 @@ import uk.gov.gchq.koryphe.signature.Signature;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -39,7 +42,10 @@ import java.util.function.Predicate;
  */
 @Since("1.0.0")
 @Summary("Returns true if all of its predicates are true")
-public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C> implements Predicate<I>, InputValidator {
+public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C> implements BatchPredicate<I>, InputValidator {
+    private volatile AdaptiveOrder adaptiveOrder;
+    private volatile List<Predicate<I>> boundComponents;
+
     /**
      * Default - for serialisation.
      */
@@ -56,6 +62,12 @@ public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C>
         return super.getComponents();
     }
 
+    @Override
+    public void setComponents(final List<C> components) {
+        super.setComponents(components);
+        boundComponents = null;
+    }
+
     /**
      * Apply the predicate components in turn, returning false if any fail the test.
      *
@@ -64,23 +76,267 @@ public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C>
      */
     @Override
     public boolean test(final I input) {
-        for (final C predicate : components) {
-            try {
-                if (!predicate.test(input)) {
-                    return false;
+        return !anyComponentReturns(input, false);
+    }
+
+    /**
+     * Enable or disable adaptive ordering of the predicate components. When enabled,
+     * the cost and result of the components are sampled as the composite is tested, and
+     * the components are periodically reordered so that cheap components that are likely
+     * to decide the result are tested first. The result of the composite is unchanged,
+     * provided the components have no side effects and none of them rely on another
+     * component having been tested first, for example to check the type of the input.
+     * <p>
+     * The declared order of the components is not changed, so serialisation and equality
+     * are unaffected. Adaptive ordering is safe to use from multiple threads.
+     * </p>
+     *
+     * @param adaptive true to reorder the components adaptively, false to test them in the declared order.
+     */
+    public void reorderAdaptively(final boolean adaptive) {
+        adaptiveOrder = adaptive ? new AdaptiveOrder(null == components ? 0 : components.size()) : null;
+    }
+
+    /**
+     * Bind the predicate components to the class of input the composite will be tested with.
+     * <p>
+     * Without binding, a {@link TupleAdaptedPredicate} component given an input that is not a
+     * {@link Tuple}, such as a {@link uk.gov.gchq.koryphe.tuple.n.Tuple1} that has been unpacked,
+     * fails with a {@link ClassCastException} and its predicate is then applied to the input
+     * directly. Binding resolves this once: if the input is always a tuple the component is
+     * applied as it is, and otherwise the component is applied to tuples and null inputs, as
+     * without binding, and its predicate is applied directly to any other input. Nested
+     * composites are bound to the same class. The declared components are not changed, and
+     * binding is discarded if they are replaced, so bind once the components are configured.
+     * </p>
+     *
+     * @param inputClass the class of input, or null to remove the binding.
+     */
+    public void bindInputClass(final Class<?> inputClass) {
+        if (null == components) {
+            boundComponents = null;
+            return;
+        }
+
+        final List<Predicate<I>> bound = new ArrayList<>(components.size());
+        for (final C component : components) {
+            if (component instanceof PredicateComposite) {
+                ((PredicateComposite<?, ?>) component).bindInputClass(inputClass);
+            }
+            bound.add(bindComponent(component, inputClass));
+        }
+        boundComponents = null == inputClass ? null : bound;
+    }
+
+    /**
+     * Apply the predicate components in turn, until one of them returns the given result.
+     *
+     * @param input  Input value
+     * @param result the component result to look for
+     * @return True if any component returned the result, otherwise false.
+     */
+    protected boolean anyComponentReturns(final I input, final boolean result) {
+        final List<Predicate<I>> bound = boundComponents;
+        final boolean isBound = null != bound && bound.size() == components.size();
+        final List<? extends Predicate<I>> predicates = isBound ? bound : components;
+
+        final AdaptiveOrder order = adaptiveOrder;
+        if (null != order) {
+            if (order.size() == predicates.size()) {
+                return order.shouldSample()
+                        ? sampleComponents(order, predicates, isBound, input, result)
+                        : anyComponentReturns(order.getOrder(), predicates, isBound, input, result);
+            }
+
+            // The components have changed since adaptive ordering was enabled, so start again.
+            adaptiveOrder = new AdaptiveOrder(predicates.size());
+        }
+
+        for (final Predicate<I> predicate : predicates) {
+            if (result == testComponent(predicate, isBound, input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Test the values at the given rows of a column, applying each predicate component
+     * only to the rows that passed the components before it.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @param result the array to write the rows that pass to.
+     * @return the number of rows that passed all the components.
+     */
+    @Override
+    public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+        int[] selected = rows;
+        int passed = count;
+        if (null != components) {
+            for (final BatchPredicate<I> component : batchComponents()) {
+                passed = component.testColumn(column, selected, passed, result);
+                selected = result;
+                if (0 == passed) {
+                    break;
+                }
+            }
+        }
+
+        if (selected != result) {
+            System.arraycopy(rows, 0, result, 0, count);
+        }
+        return passed;
+    }
+
+    /**
+     * Test the values at the given rows of a column, applying each predicate component
+     * only to the rows that have not passed any of the components before it.
+     *
+     * @param column the values to test.
+     * @param rows   the rows of the column to test, in ascending order.
+     * @param count  the number of rows to test.
+     * @param result the array to write the rows that pass to.
+     * @return the number of rows that passed any of the components.
+     */
+    protected int testColumnAny(final Object[] column, final int[] rows, final int count, final int[] result) {
+        if (null == components || 0 == count) {
+            return 0;
+        }
+
+        final BitSet accepted = new BitSet();
+        final int[] remaining = Arrays.copyOf(rows, count);
+        final int[] matched = new int[count];
+        int remainingCount = count;
+        for (final BatchPredicate<I> component : batchComponents()) {
+            final int matchedCount = component.testColumn(column, remaining, remainingCount, matched);
+            if (matchedCount > 0) {
+                for (int i = 0; i < matchedCount; i++) {
+                    accepted.set(matched[i]);
                 }
-            } catch (final ClassCastException e) {
-                // This may occur if the predicate was given a tuple1 and the tuple1 was automatically unpacked.
-                if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
-                    if (!((TupleAdaptedPredicate) predicate).getPredicate().test(input)) {
-                        return false;
+                int kept = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    if (!accepted.get(remaining[i])) {
+                        remaining[kept++] = remaining[i];
                     }
-                } else {
-                    throw e;
                 }
+                remainingCount = kept;
+                if (0 == remainingCount) {
+                    break;
+                }
+            }
+        }
+
+        int passed = 0;
+        for (int i = 0; i < count; i++) {
+            if (accepted.get(rows[i])) {
+                result[passed++] = rows[i];
             }
         }
-        return true;
+        return passed;
+    }
+
+    // The components in the order they are currently tested, as batch predicates. Components
+    // that are not batch predicates test each value in turn, with the Tuple1 fallback unless bound.
+    private List<BatchPredicate<I>> batchComponents() {
+        final List<Predicate<I>> bound = boundComponents;
+        final boolean isBound = null != bound && bound.size() == components.size();
+        final List<? extends Predicate<I>> predicates = isBound ? bound : components;
+        final AdaptiveOrder order = adaptiveOrder;
+        final boolean isOrdered = null != order && order.size() == predicates.size();
+
+        final List<BatchPredicate<I>> batchComponents = new ArrayList<>(predicates.size());
+        for (int i = 0; i < predicates.size(); i++) {
+            final Predicate<I> predicate = predicates.get(isOrdered ? order.getOrder()[i] : i);
+            if (predicate instanceof BatchPredicate) {
+                batchComponents.add((BatchPredicate<I>) predicate);
+            } else {
+                batchComponents.add(value -> testComponent(predicate, isBound, value));
+            }
+        }
+        return batchComponents;
+    }
+
+    private boolean anyComponentReturns(final int[] order, final List<? extends Predicate<I>> predicates,
+                                        final boolean isBound, final I input, final boolean result) {
+        for (final int index : order) {
+            if (result == testComponent(predicates.get(index), isBound, input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tests every component and records its cost, so components that are rarely reached
+    // when short-circuiting still get measured. A component that throws after the result
+    // has been decided is skipped, as it would not normally have been tested.
+    private boolean sampleComponents(final AdaptiveOrder order, final List<? extends Predicate<I>> predicates,
+                                     final boolean isBound, final I input, final boolean result) {
+        boolean found = false;
+        for (final int index : order.getOrder()) {
+            final long start = System.nanoTime();
+            final boolean componentResult;
+            try {
+                componentResult = testComponent(predicates.get(index), isBound, input);
+            } catch (final RuntimeException e) {
+                if (found) {
+                    continue;
+                }
+                throw e;
+            }
+            order.record(index, componentResult, System.nanoTime() - start);
+            found |= result == componentResult;
+        }
+        order.sampled(result);
+        return found;
+    }
+
+    private boolean testComponent(final Predicate<I> predicate, final boolean isBound, final I input) {
+        if (isBound) {
+            return predicate.test(input);
+        }
+
+        try {
+            return predicate.test(input);
+        } catch (final ClassCastException e) {
+            // This may occur if the predicate was given a tuple1 and the tuple1 was automatically unpacked.
+            if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
+                return ((TupleAdaptedPredicate) predicate).getPredicate().test(input);
+            }
+            throw e;
+        }
+    }
+
+    private static <I> Predicate<I> bindComponent(final Predicate<I> component, final Class<?> inputClass) {
+        if (!(component instanceof TupleAdaptedPredicate) || null == inputClass || Tuple.class.isAssignableFrom(inputClass)) {
+            return component;
+        }
+
+        final TupleAdaptedPredicate<?, ?> tupleAdapted = (TupleAdaptedPredicate<?, ?>) component;
+        if (inputClass.isPrimitive()) {
+            return (Predicate<I>) tupleAdapted.getPredicate();
+        }
+        // Even a class that can never be a tuple may be given null, which is adapted as a tuple.
+        return new TupleDispatchPredicate<>(tupleAdapted);
+    }
+
+    /**
+     * Applies a {@link TupleAdaptedPredicate} to tuples and null, and its predicate to any other input.
+     *
+     * @param <I> Input type
+     */
+    private static final class TupleDispatchPredicate<I> implements Predicate<I> {
+        private final TupleAdaptedPredicate tupleAdapted;
+
+        private TupleDispatchPredicate(final TupleAdaptedPredicate<?, ?> tupleAdapted) {
+            this.tupleAdapted = tupleAdapted;
+        }
+
+        @Override
+        public boolean test(final I input) {
+            return null == input || input instanceof Tuple ? tupleAdapted.test((Tuple) input) : tupleAdapted.getPredicate().test(input);
+        }
     }
 
     @Override
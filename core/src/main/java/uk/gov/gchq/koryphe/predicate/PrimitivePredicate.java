@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.predicate;
+
+/**
+ * A <code>PrimitivePredicate</code> is a {@link java.util.function.Predicate} that can also
+ * test int, long and double values without boxing them. Each method must return the same
+ * result as testing the equivalent boxed {@link Integer}, {@link Long} or {@link Double}.
+ *
+ * @see uk.gov.gchq.koryphe.tuple.PrimitiveTuple
+ */
+public interface PrimitivePredicate {
+    boolean testInt(final int input);
+
+    boolean testLong(final long input);
+
+    boolean testDouble(final double input);
+}
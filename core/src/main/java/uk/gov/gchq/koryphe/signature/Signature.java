@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.function.WrappedBiFunction;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.GenericDeclaration;
@@ -34,6 +35,7 @@ import java.lang.reflect.TypeVariable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -50,6 +52,15 @@ public abstract class Signature {
     private static final boolean INPUT_SIGNATURE = true;
     private static final boolean OUTPUT_SIGNATURE = false;
 
+    // The types resolved for the signatures of each class, so the generic type hierarchy of a
+    // class is only walked once. Held in a ClassValue so they are discarded with the class.
+    private static final ClassValue<ResolvedSignatures> RESOLVED_SIGNATURES = new ClassValue<ResolvedSignatures>() {
+        @Override
+        protected ResolvedSignatures computeValue(final Class<?> type) {
+            return new ResolvedSignatures(type, null);
+        }
+    };
+
     /**
      * Tests whether this <code>Signature</code> is compatible with the types supplied.
      *
@@ -119,12 +130,20 @@ public abstract class Signature {
     }
 
     private static Signature createSignatureFromTypeVariable(final Object input, final Class functionClass, final boolean isInput) {
-        final Map<TypeVariable<?>, Type> typeArgs = createTypeArgsFor(input, functionClass);
+        ResolvedSignatures resolvedSignatures = RESOLVED_SIGNATURES.get(input.getClass());
+        if (input instanceof WrappedBiFunction) {
+            resolvedSignatures = resolvedSignatures.wrapping(((WrappedBiFunction) input).getFunction().getClass());
+        }
+        return resolvedSignatures.get(functionClass, isInput).create(input, isInput);
+    }
+
+    private static ResolvedSignature resolveSignature(final Class<?> inputClass, final Class<?> wrappedClass, final Class<?> functionClass, final boolean isInput) {
+        final Map<TypeVariable<?>, Type> typeArgs = createTypeArgsFor(inputClass, wrappedClass, functionClass);
         final Method targetMethod = getTargetedMethodIn(functionClass);
         final Type targetMethodType = isInput ? targetMethod.getGenericParameterTypes()[0] : targetMethod.getGenericReturnType();
         final Type inputType = mapTargetMethodTypeToRequiredType(targetMethodType, typeArgs);
 
-        return createSignature(input, inputType, typeArgs, isInput);
+        return resolveSignature(inputType, typeArgs);
     }
 
     private static Method getTargetedMethodIn(final Class<?> clazz) {
@@ -148,7 +167,7 @@ public abstract class Signature {
         return Stream.of(clazz.getAnnotations()).map(Annotation::annotationType).anyMatch(FunctionalInterface.class::equals);
     }
 
-    private static Signature createSignature(final Object input, final Type type, final Map<TypeVariable<?>, Type> typeArgs, final boolean isInput) {
+    private static ResolvedSignature resolveSignature(final Type type, final Map<TypeVariable<?>, Type> typeArgs) {
         Type typeForInput = type;
         if (type instanceof TypeVariable) {
             final TypeVariable typeVariable = TypeVariable.class.cast(type);
@@ -170,31 +189,31 @@ public abstract class Signature {
                 for (final TypeVariable tupleType : tupleTypes) {
                     classes[i++] = getTypeClass(classTypeArgs.get(tupleType), typeArgs);
                 }
-                return new TupleSignature(input, clazz, classes, isInput);
+                return new ResolvedSignature(clazz, classes);
             }
         }
-        return new SingletonSignature(input, clazz, isInput);
+        return new ResolvedSignature(clazz, null);
     }
 
-    private static Map<TypeVariable<?>, Type> createTypeArgsFor(final Object input, final Class<?> functionClass) {
-        final Map<TypeVariable<?>, Type> typeArgs = TypeUtils.getTypeArguments(input.getClass(), functionClass);
+    private static Map<TypeVariable<?>, Type> createTypeArgsFor(final Class<?> inputClass, final Class<?> wrappedClass, final Class<?> functionClass) {
+        final Map<TypeVariable<?>, Type> typeArgs = TypeUtils.getTypeArguments(inputClass, functionClass);
 
-        if (WrappedBiFunction.class.isAssignableFrom(input.getClass())) {
-            final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeArgs = getWrappedBiFunctionTypeArgMapping((WrappedBiFunction) input);
-            final Map<TypeVariable<?>, Type> inputToWrappedBiFunctionTypeArgs = createInputToWrappedBiFunctionTypeArgMapping(input, typeArgs, wrappedBiFunctionTypeArgs);
+        if (null != wrappedClass) {
+            final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeArgs = getWrappedBiFunctionTypeArgMapping(wrappedClass);
+            final Map<TypeVariable<?>, Type> inputToWrappedBiFunctionTypeArgs = createInputToWrappedBiFunctionTypeArgMapping(inputClass, typeArgs, wrappedBiFunctionTypeArgs);
             typeArgs.putAll(inputToWrappedBiFunctionTypeArgs);
         }
 
         return typeArgs;
     }
 
-    private static Map<TypeVariable<?>, Type> createInputToWrappedBiFunctionTypeArgMapping(final Object input, final Map<TypeVariable<?>, Type> typeArgs, final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeArgs) {
+    private static Map<TypeVariable<?>, Type> createInputToWrappedBiFunctionTypeArgMapping(final Class<?> inputClass, final Map<TypeVariable<?>, Type> typeArgs, final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeArgs) {
         final Map<String, TypeVariable> inputTypeVariableMap = new HashMap<>();
 
         for (final Type type : typeArgs.values()) {
             if (TypeVariable.class.isAssignableFrom(type.getClass())) {
                 final TypeVariable typeVariable = TypeVariable.class.cast(type);
-                if (input.getClass().equals(getClassFrom(typeVariable.getGenericDeclaration()))) {
+                if (inputClass.equals(getClassFrom(typeVariable.getGenericDeclaration()))) {
                     inputTypeVariableMap.put(typeVariable.getName(), typeVariable);
                 }
             }
@@ -213,9 +232,8 @@ public abstract class Signature {
         return inputToWrappedBiFunctionTypeArgMapping;
     }
 
-    private static Map<TypeVariable<?>, Type> getWrappedBiFunctionTypeArgMapping(final WrappedBiFunction input) {
-        final BiFunction wrappedBiFunction = input.getFunction();
-        final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeMap = TypeUtils.getTypeArguments(wrappedBiFunction.getClass(), BiFunction.class);
+    private static Map<TypeVariable<?>, Type> getWrappedBiFunctionTypeArgMapping(final Class<?> wrappedClass) {
+        final Map<TypeVariable<?>, Type> wrappedBiFunctionTypeMap = TypeUtils.getTypeArguments(wrappedClass, BiFunction.class);
 
         final Map<TypeVariable<?>, Type> mapping = new HashMap<>();
         for (final Map.Entry<TypeVariable<?>, Type> entry : wrappedBiFunctionTypeMap.entrySet()) {
@@ -278,5 +296,80 @@ public abstract class Signature {
 
     public static class UnknownGenericType {
     }
+
+    // The resolved signatures of a class, or of a WrappedBiFunction class wrapping a given BiFunction class.
+    private static final class ResolvedSignatures {
+        private final Class<?> inputClass;
+        private final Class<?> wrappedClass;
+        private final Map<Class<?>, ResolvedSignature> inputSignatures = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ResolvedSignature> outputSignatures = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ResolvedSignatures> wrappedSignatures = new ConcurrentHashMap<>();
+
+        private ResolvedSignatures(final Class<?> inputClass, final Class<?> wrappedClass) {
+            this.inputClass = inputClass;
+            this.wrappedClass = wrappedClass;
+        }
+
+        private ResolvedSignatures wrapping(final Class<?> clazz) {
+            final ResolvedSignatures resolved = wrappedSignatures.get(clazz);
+            if (null != resolved) {
+                return resolved;
+            }
+
+            final ResolvedSignatures created = new ResolvedSignatures(inputClass, clazz);
+            if (!ClassUtil.isVisibleFrom(inputClass, clazz)) {
+                return created;
+            }
+            final ResolvedSignatures existing = wrappedSignatures.putIfAbsent(clazz, created);
+            return null != existing ? existing : created;
+        }
+
+        private ResolvedSignature get(final Class<?> functionClass, final boolean isInput) {
+            final Map<Class<?>, ResolvedSignature> signatures = isInput ? inputSignatures : outputSignatures;
+            final ResolvedSignature resolved = signatures.get(functionClass);
+            if (null != resolved) {
+                return resolved;
+            }
+
+            final ResolvedSignature created = resolveSignature(inputClass, wrappedClass, functionClass, isInput);
+            if (!created.isVisibleFrom(inputClass)) {
+                return created;
+            }
+            final ResolvedSignature existing = signatures.putIfAbsent(functionClass, created);
+            return null != existing ? existing : created;
+        }
+    }
+
+    // The classes of a signature, which can be shared by all signatures of instances of the same class.
+    private static final class ResolvedSignature {
+        private final Class<?> clazz;
+        private final Class[] tupleClasses;
+
+        private ResolvedSignature(final Class<?> clazz, final Class[] tupleClasses) {
+            this.clazz = clazz;
+            this.tupleClasses = tupleClasses;
+        }
+
+        private Signature create(final Object input, final boolean isInput) {
+            if (null != tupleClasses) {
+                return new TupleSignature(input, clazz, tupleClasses, isInput);
+            }
+            return new SingletonSignature(input, clazz, isInput);
+        }
+
+        private boolean isVisibleFrom(final Class<?> owner) {
+            if (null != clazz && !ClassUtil.isVisibleFrom(owner, clazz)) {
+                return false;
+            }
+            if (null != tupleClasses) {
+                for (final Class<?> tupleClass : tupleClasses) {
+                    if (null != tupleClass && !ClassUtil.isVisibleFrom(owner, tupleClass)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
 }
 
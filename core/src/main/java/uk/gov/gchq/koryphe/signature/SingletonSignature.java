@@ -17,6 +17,7 @@
 package uk.gov.gchq.koryphe.signature;
 
 import uk.gov.gchq.koryphe.ValidationResult;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 import java.util.Arrays;
 
@@ -61,7 +62,7 @@ public class SingletonSignature extends Signature {
             return result;
         }
 
-        final boolean isAssignable = type.isAssignableFrom(arguments[0]);
+        final boolean isAssignable = ClassUtil.isAssignableFrom(type, arguments[0]);
         if (!isAssignable) {
             result.addError("Incompatible types. " + input.getClass().getName() + ": [" + type
                     + "], arguments: " + Arrays.toString(arguments));
@@ -18,6 +18,7 @@ package uk.gov.gchq.koryphe.signature;
 
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.tuple.n.Tuple1;
+import uk.gov.gchq.koryphe.util.ClassUtil;
 
 import java.util.Arrays;
 
@@ -35,7 +36,7 @@ public class TupleSignature extends Signature {
         this.input = input;
         this.classes = classes;
         this.isInput = isInput;
-        if (1 == classes.length && !(Tuple1.class.isAssignableFrom(tupleClazz))) {
+        if (1 == classes.length && !(ClassUtil.isAssignableFrom(Tuple1.class, tupleClazz))) {
             // This tuple will accept any number of arguments
             numClasses = null;
         } else {
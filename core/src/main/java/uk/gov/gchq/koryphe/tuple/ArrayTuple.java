@@ -81,6 +81,11 @@ public class ArrayTuple implements Tuple<Integer> {
         }
     }
 
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Used to copy values in place")
+    Object[] backingArray() {
+        return values;
+    }
+
     @Override
     public Iterable<Object> values() {
         return Arrays.asList(values);
@@ -92,11 +97,17 @@ public class ArrayTuple implements Tuple<Integer> {
     }
 
     @Override
+    @SuppressFBWarnings(value = {"EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", "EQ_GETCLASS_AND_CLASS_CONSTANT"}, justification = "An ArrayTuple is equal to a PrimitiveArrayTuple view holding the same values")
     public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
 
+        if (obj instanceof PrimitiveArrayTuple && ArrayTuple.class == getClass()) {
+            // A view of a primitive array is equal to the array tuple holding its boxed values
+            return obj.equals(this);
+        }
+
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * A <code>CompactMap</code> is a {@link Map} for records with a small number of fields,
+ * such as the values of a {@link MapTuple}. Keys and values are held in parallel arrays
+ * in insertion order, with an open addressing table of array positions used to look
+ * them up, so no entry object is allocated per field.
+ * </p>
+ * <p>
+ * Keys are compared by identity before falling back to {@link Object#equals(Object)},
+ * so lookups with interned keys, such as {@link String} literals, avoid the equals call.
+ * Null keys and values are supported. A <code>CompactMap</code> is not thread safe.
+ * </p>
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Object[] keys;
+    private Object[] vals;
+    private int[] table;
+    private int size;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Create an empty <code>CompactMap</code>.
+     */
+    public CompactMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create an empty <code>CompactMap</code> sized to hold the given number of entries
+     * without resizing.
+     *
+     * @param expectedSize the expected number of entries.
+     */
+    public CompactMap(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        final int capacity = Math.max(1, expectedSize);
+        keys = new Object[capacity];
+        vals = new Object[capacity];
+        table = new int[tableSize(capacity)];
+    }
+
+    /**
+     * Create a <code>CompactMap</code> containing the entries of another map.
+     *
+     * @param map the map to copy.
+     */
+    public CompactMap(final Map<? extends K, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) vals[index];
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final int hash = hash(key);
+        final int mask = table.length - 1;
+        int bucket = hash & mask;
+        int position;
+        while (0 != (position = table[bucket])) {
+            final Object existing = keys[position - 1];
+            if (existing == key || (null != key && key.equals(existing))) {
+                final V previous = (V) vals[position - 1];
+                vals[position - 1] = value;
+                return previous;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            grow();
+            return put(key, value);
+        }
+
+        keys[size] = key;
+        vals[size] = value;
+        size++;
+        table[bucket] = size;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+
+        final V previous = (V) vals[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(vals, 0, size, null);
+        Arrays.fill(table, 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (null == entrySet) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(final Object key) {
+        final int mask = table.length - 1;
+        int bucket = hash(key) & mask;
+        int position;
+        while (0 != (position = table[bucket])) {
+            final Object existing = keys[position - 1];
+            if (existing == key || (null != key && key.equals(existing))) {
+                return position - 1;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Moves the last entry into the removed position, then rebuilds the lookup table.
+    // Records are small, so this is cheaper than keeping tombstones in the table.
+    private void removeAt(final int index) {
+        size--;
+        keys[index] = keys[size];
+        vals[index] = vals[size];
+        keys[size] = null;
+        vals[size] = null;
+        rebuildTable(table.length);
+        modCount++;
+    }
+
+    private void grow() {
+        final int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        vals = Arrays.copyOf(vals, capacity);
+        rebuildTable(tableSize(capacity));
+    }
+
+    private void rebuildTable(final int tableSize) {
+        if (table.length == tableSize) {
+            Arrays.fill(table, 0);
+        } else {
+            table = new int[tableSize];
+        }
+
+        final int mask = tableSize - 1;
+        for (int i = 0; i < size; i++) {
+            int bucket = hash(keys[i]) & mask;
+            while (0 != table[bucket]) {
+                bucket = (bucket + 1) & mask;
+            }
+            table[bucket] = i + 1;
+        }
+    }
+
+    // The table is kept at most half full so that probe sequences stay short.
+    private static int tableSize(final int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private static int hash(final Object key) {
+        if (null == key) {
+            return 0;
+        }
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            // The last entry is moved into the removed position, so visit that position again.
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, V> {
+        private final int index;
+
+        private Entry(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public K getKey() {
+            return (K) keys[index];
+        }
+
+        @Override
+        public V getValue() {
+            return (V) vals[index];
+        }
+
+        @Override
+        public V setValue(final V value) {
+            final V previous = (V) vals[index];
+            vals[index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> that = (Map.Entry<?, ?>) obj;
+            return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
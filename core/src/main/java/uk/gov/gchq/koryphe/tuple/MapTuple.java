@@ -26,6 +26,8 @@ import java.util.Map;
 
 /**
  * A <code>MapTuple</code> is an implementation of {@link Tuple} backed by a {@link java.util.Map}.
+ * Records with a small, fixed set of fields that are held in memory in bulk can be backed
+ * by a {@link CompactMap} to reduce their size.
  */
 public class MapTuple<R> implements Tuple<R> {
     private Map<R, Object> values;
@@ -46,6 +48,16 @@ public class MapTuple<R> implements Tuple<R> {
         this.values = new HashMap<>();
     }
 
+    /**
+     * Create a <code>MapTuple</code> backed by a new {@link CompactMap} sized for
+     * the given number of fields.
+     *
+     * @param expectedSize the expected number of fields.
+     */
+    public MapTuple(final int expectedSize) {
+        this.values = new CompactMap<>(expectedSize);
+    }
+
     @Override
     public void put(final R reference, final Object value) {
         values.put(reference, value);
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A <code>MemoTuple</code> wraps another {@link Tuple} and remembers the values of a set
+ * of its fields, so each of those fields is only read from the wrapped tuple once. This
+ * lets the components of a composite that select the same fields share the values, which
+ * is worthwhile when reading a field is costly, for example from a {@link ReflectiveTuple}.
+ * </p>
+ * <p>
+ * Values put into a <code>MemoTuple</code> are written to the wrapped tuple and any
+ * remembered value of the field is forgotten. A <code>MemoTuple</code> is intended to be
+ * used for a single record and is not thread safe.
+ * </p>
+ *
+ * @param <R> The type of reference used to name the fields.
+ */
+public class MemoTuple<R> implements Tuple<R> {
+    private final Tuple<R> tuple;
+    private final Set<R> references;
+    private CompactMap<R, Object> values;
+
+    /**
+     * Create a <code>MemoTuple</code>.
+     *
+     * @param tuple      the tuple to wrap.
+     * @param references the fields to remember the values of.
+     */
+    public MemoTuple(final Tuple<R> tuple, final Set<R> references) {
+        requireNonNull(tuple, "tuple is required");
+        requireNonNull(references, "references are required");
+        this.tuple = tuple;
+        this.references = references;
+    }
+
+    /**
+     * Find the fields that appear more than once in a group of selections.
+     *
+     * @param selections the selections, which may be null.
+     * @param <R>        The type of reference used to name the fields.
+     * @return the fields selected more than once.
+     */
+    public static <R> Set<R> sharedReferences(final Iterable<R[]> selections) {
+        final Set<R> seen = new HashSet<>();
+        final Set<R> shared = new HashSet<>();
+        for (final R[] selection : selections) {
+            if (null != selection) {
+                for (final R reference : selection) {
+                    if (null != reference && !seen.add(reference)) {
+                        shared.add(reference);
+                    }
+                }
+            }
+        }
+        return shared.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(shared);
+    }
+
+    /**
+     * @return the wrapped tuple.
+     */
+    public Tuple<R> getTuple() {
+        return tuple;
+    }
+
+    @Override
+    public Object get(final R reference) {
+        if (!references.contains(reference)) {
+            return tuple.get(reference);
+        }
+
+        if (null == values) {
+            values = new CompactMap<>(references.size());
+        } else if (values.containsKey(reference)) {
+            return values.get(reference);
+        }
+
+        final Object value = tuple.get(reference);
+        values.put(reference, value);
+        return value;
+    }
+
+    @Override
+    public void put(final R reference, final Object value) {
+        tuple.put(reference, value);
+        if (null != values) {
+            values.remove(reference);
+        }
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return tuple.values();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("tuple", tuple)
+                .append("references", references)
+                .build();
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.predicate.PrimitivePredicate;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A <code>PrimitiveArrayTuple</code> is a {@link Tuple} view of an array of primitives,
+ * referenced by their index. The array is not copied: values are only boxed when read
+ * through {@link #get(Integer)} or {@link #values()}, and primitive-aware code can read
+ * the array directly with {@link #getArray()}.
+ * </p>
+ * <p>
+ * Views are read only unless created as writable, in which case {@link #put(Integer, Object)}
+ * writes through to the array.
+ * </p>
+ */
+public final class PrimitiveArrayTuple implements Tuple<Integer> {
+    private enum ElementType {
+        INT, LONG, DOUBLE, FLOAT, SHORT, BYTE, CHAR, BOOLEAN
+    }
+
+    private final Object array;
+    private final ElementType type;
+    private final int size;
+    private final boolean writable;
+
+    private PrimitiveArrayTuple(final Object array, final ElementType type, final boolean writable) {
+        this.array = array;
+        this.type = type;
+        this.size = Array.getLength(array);
+        this.writable = writable;
+    }
+
+    /**
+     * Create a read only view of a primitive array.
+     *
+     * @param array the array to wrap.
+     * @return the view.
+     * @throws IllegalArgumentException if the value is not an array of primitives.
+     */
+    public static PrimitiveArrayTuple of(final Object array) {
+        return of(array, false);
+    }
+
+    /**
+     * Create a view of a primitive array.
+     *
+     * @param array    the array to wrap.
+     * @param writable true if values can be put into the array through the view.
+     * @return the view.
+     * @throws IllegalArgumentException if the value is not an array of primitives.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "This class is designed to wrap the array without copying it")
+    public static PrimitiveArrayTuple of(final Object array, final boolean writable) {
+        return new PrimitiveArrayTuple(array, elementType(array), writable);
+    }
+
+    /**
+     * @param value the value to check.
+     * @return true if the value is an array of primitives.
+     */
+    public static boolean isPrimitiveArray(final Object value) {
+        return null != value && value.getClass().isArray() && value.getClass().getComponentType().isPrimitive();
+    }
+
+    /**
+     * @return the wrapped array, which is not copied.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "This class is designed to wrap the array without copying it")
+    public Object getArray() {
+        return array;
+    }
+
+    /**
+     * @return the number of values in this tuple.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Test the value at an index with a {@link PrimitivePredicate}, without boxing it.
+     * Only int, long and double values can be tested, as the predicate is only required to
+     * give the same result as testing a boxed {@link Integer}, {@link Long} or {@link Double}.
+     *
+     * @param index     Value index.
+     * @param predicate the predicate to apply.
+     * @return the result of the predicate.
+     * @throws UnsupportedOperationException if the array is not an int, long or double array.
+     * @see #isTestableWithoutBoxing()
+     */
+    public boolean test(final int index, final PrimitivePredicate predicate) {
+        switch (type) {
+            case INT:
+                return predicate.testInt(((int[]) array)[index]);
+            case LONG:
+                return predicate.testLong(((long[]) array)[index]);
+            case DOUBLE:
+                return predicate.testDouble(((double[]) array)[index]);
+            default:
+                throw new UnsupportedOperationException("Only int, long and double values can be tested without boxing");
+        }
+    }
+
+    /**
+     * @return true if {@link #test(int, PrimitivePredicate)} can be used on this tuple.
+     */
+    public boolean isTestableWithoutBoxing() {
+        return ElementType.INT == type || ElementType.LONG == type || ElementType.DOUBLE == type;
+    }
+
+    @Override
+    public Object get(final Integer index) {
+        if (index < size) {
+            switch (type) {
+                case INT:
+                    return ((int[]) array)[index];
+                case LONG:
+                    return ((long[]) array)[index];
+                case DOUBLE:
+                    return ((double[]) array)[index];
+                case FLOAT:
+                    return ((float[]) array)[index];
+                case SHORT:
+                    return ((short[]) array)[index];
+                case BYTE:
+                    return ((byte[]) array)[index];
+                case CHAR:
+                    return ((char[]) array)[index];
+                default:
+                    return ((boolean[]) array)[index];
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(final Integer index, final Object value) {
+        if (!writable) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is read only");
+        }
+
+        if (index < size) {
+            if (!accepts(value)) {
+                throw new IllegalArgumentException("Unable to put " + value + " into a "
+                        + array.getClass().getComponentType() + " array");
+            }
+
+            switch (type) {
+                case INT:
+                    ((int[]) array)[index] = ((Number) value).intValue();
+                    break;
+                case LONG:
+                    ((long[]) array)[index] = ((Number) value).longValue();
+                    break;
+                case DOUBLE:
+                    ((double[]) array)[index] = ((Number) value).doubleValue();
+                    break;
+                case FLOAT:
+                    ((float[]) array)[index] = ((Number) value).floatValue();
+                    break;
+                case SHORT:
+                    ((short[]) array)[index] = ((Number) value).shortValue();
+                    break;
+                case BYTE:
+                    ((byte[]) array)[index] = ((Number) value).byteValue();
+                    break;
+                case CHAR:
+                    ((char[]) array)[index] = (Character) value;
+                    break;
+                default:
+                    ((boolean[]) array)[index] = (Boolean) value;
+            }
+        }
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return new AbstractList<Object>() {
+            @Override
+            public Object get(final int index) {
+                return PrimitiveArrayTuple.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return values().iterator();
+    }
+
+    private boolean accepts(final Object value) {
+        switch (type) {
+            case CHAR:
+                return value instanceof Character;
+            case BOOLEAN:
+                return value instanceof Boolean;
+            default:
+                return value instanceof Number;
+        }
+    }
+
+    private static ElementType elementType(final Object array) {
+        if (!isPrimitiveArray(array)) {
+            throw new IllegalArgumentException("Expected an array of primitives but found: "
+                    + (null == array ? null : array.getClass().getName()));
+        }
+        final Class<?> componentType = array.getClass().getComponentType();
+        if (int.class == componentType) {
+            return ElementType.INT;
+        }
+        if (long.class == componentType) {
+            return ElementType.LONG;
+        }
+        if (double.class == componentType) {
+            return ElementType.DOUBLE;
+        }
+        if (float.class == componentType) {
+            return ElementType.FLOAT;
+        }
+        if (short.class == componentType) {
+            return ElementType.SHORT;
+        }
+        if (byte.class == componentType) {
+            return ElementType.BYTE;
+        }
+        if (char.class == componentType) {
+            return ElementType.CHAR;
+        }
+        return ElementType.BOOLEAN;
+    }
+
+    /**
+     * A <code>PrimitiveArrayTuple</code> is equal to another <code>PrimitiveArrayTuple</code>, or to an
+     * {@link ArrayTuple}, holding equal boxed values, so a view is equal to the {@link ArrayTuple} copy
+     * of the same array. Whether the view is writable is not compared.
+     *
+     * @param obj the object to compare with.
+     * @return true if the object is a tuple with equal values.
+     */
+    @Override
+    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "An ArrayTuple is equal to a PrimitiveArrayTuple view holding the same values")
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof PrimitiveArrayTuple) {
+            return new EqualsBuilder()
+                    .append(array, ((PrimitiveArrayTuple) obj).array)
+                    .isEquals();
+        }
+
+        if (null != obj && ArrayTuple.class == obj.getClass()) {
+            final Object[] values = ((ArrayTuple) obj).backingArray();
+            if (values.length != size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!Objects.equals(values[i], get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the same hash code as an {@link ArrayTuple} holding the boxed values.
+     */
+    @Override
+    public int hashCode() {
+        final HashCodeBuilder builder = new HashCodeBuilder(11, 31);
+        for (int i = 0; i < size; i++) {
+            builder.append(get(i));
+        }
+        return builder.toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("values", values())
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.predicate.PrimitivePredicate;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A <code>PrimitiveTuple</code> is a {@link Tuple} of int, long or double values,
+ * referenced by their index. Each index has a fixed {@link SlotType} and the values
+ * are held unboxed, so they can be read and written with {@link #getLong(int)},
+ * {@link #putDouble(int, double)} etc. without boxing.
+ * </p>
+ * <p>
+ * Values are only boxed when read through the generic {@link #get(Integer)} or
+ * {@link #values()}. {@link uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate}s
+ * and {@link uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator}s
+ * with a single selection hand values straight to {@link PrimitivePredicate}s,
+ * {@link LongBinaryOperator}s and {@link DoubleBinaryOperator}s.
+ * </p>
+ */
+public class PrimitiveTuple implements Tuple<Integer> {
+    /**
+     * The primitive type of a value in a {@link PrimitiveTuple}.
+     */
+    public enum SlotType {
+        INT, LONG, DOUBLE
+    }
+
+    private final SlotType[] types;
+    private final long[] values;
+
+    /**
+     * Create a <code>PrimitiveTuple</code> with the given slot types, with all values set to zero.
+     *
+     * @param types the type of each slot.
+     */
+    public PrimitiveTuple(final SlotType... types) {
+        requireNonNull(types, "types are required");
+        this.types = Arrays.copyOf(types, types.length);
+        this.values = new long[types.length];
+    }
+
+    /**
+     * @return the number of values in this tuple.
+     */
+    public int size() {
+        return types.length;
+    }
+
+    public SlotType getSlotType(final int index) {
+        return types[index];
+    }
+
+    public int getInt(final int index) {
+        return (int) getLong(index);
+    }
+
+    public long getLong(final int index) {
+        return SlotType.DOUBLE == types[index] ? (long) Double.longBitsToDouble(values[index]) : values[index];
+    }
+
+    public double getDouble(final int index) {
+        return SlotType.DOUBLE == types[index] ? Double.longBitsToDouble(values[index]) : values[index];
+    }
+
+    public void putInt(final int index, final int value) {
+        putLong(index, value);
+    }
+
+    public void putLong(final int index, final long value) {
+        switch (types[index]) {
+            case INT:
+                values[index] = (int) value;
+                break;
+            case DOUBLE:
+                values[index] = Double.doubleToRawLongBits(value);
+                break;
+            default:
+                values[index] = value;
+        }
+    }
+
+    public void putDouble(final int index, final double value) {
+        switch (types[index]) {
+            case INT:
+                values[index] = (int) value;
+                break;
+            case LONG:
+                values[index] = (long) value;
+                break;
+            default:
+                values[index] = Double.doubleToRawLongBits(value);
+        }
+    }
+
+    /**
+     * Test the value at an index with a {@link PrimitivePredicate}, without boxing it.
+     *
+     * @param index     Value index.
+     * @param predicate the predicate to apply.
+     * @return the result of the predicate.
+     */
+    public boolean test(final int index, final PrimitivePredicate predicate) {
+        switch (types[index]) {
+            case INT:
+                return predicate.testInt((int) values[index]);
+            case LONG:
+                return predicate.testLong(values[index]);
+            default:
+                return predicate.testDouble(Double.longBitsToDouble(values[index]));
+        }
+    }
+
+    /**
+     * Combine the value at an index with the value at the same index in another tuple
+     * and store the result in this tuple, without boxing either value.
+     *
+     * @param index          Value index.
+     * @param other          the tuple holding the value to combine with.
+     * @param longOperator   the operator to apply to int and long values, or null.
+     * @param doubleOperator the operator to apply to double values, or null.
+     * @return true if the values were combined, or false if the slot types differ or
+     * there is no operator for the slot type.
+     */
+    public boolean combine(final int index, final PrimitiveTuple other,
+                           final LongBinaryOperator longOperator, final DoubleBinaryOperator doubleOperator) {
+        if (types[index] != other.types[index]) {
+            return false;
+        }
+
+        if (SlotType.DOUBLE == types[index]) {
+            if (null == doubleOperator) {
+                return false;
+            }
+            putDouble(index, doubleOperator.applyAsDouble(getDouble(index), other.getDouble(index)));
+        } else {
+            if (null == longOperator) {
+                return false;
+            }
+            putLong(index, longOperator.applyAsLong(values[index], other.values[index]));
+        }
+        return true;
+    }
+
+    @Override
+    public Object get(final Integer index) {
+        if (index < types.length) {
+            switch (types[index]) {
+                case INT:
+                    return (int) values[index];
+                case LONG:
+                    return values[index];
+                default:
+                    return Double.longBitsToDouble(values[index]);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(final Integer index, final Object value) {
+        if (index < types.length) {
+            if (!(value instanceof Number)) {
+                throw new IllegalArgumentException(getClass().getSimpleName() + " only supports non-null numeric values, but found: " + value);
+            }
+
+            if (SlotType.DOUBLE == types[index]) {
+                putDouble(index, ((Number) value).doubleValue());
+            } else {
+                putLong(index, ((Number) value).longValue());
+            }
+        }
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return new AbstractList<Object>() {
+            @Override
+            public Object get(final int index) {
+                return PrimitiveTuple.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return types.length;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return values().iterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final PrimitiveTuple that = (PrimitiveTuple) obj;
+
+        return new EqualsBuilder()
+                .append(types, that.types)
+                .append(values, that.values)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(23, 47)
+                .append(types)
+                .append(values)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("values", values())
+                .build();
+    }
+}
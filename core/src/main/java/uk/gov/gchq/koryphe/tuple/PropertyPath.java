@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static uk.gov.gchq.koryphe.tuple.Tuple.THIS;
+
+/**
+ * <p>
+ * A {@code PropertyPath} is a {@link ReflectiveTuple} reference, such as
+ * "address.postcode.outward", parsed once into a chain of hops.
+ * </p>
+ * <p>
+ * Each hop looks up its {@link PropertyPlan} through the per class cache of
+ * plans, so walking the object graph does not allocate intermediate tuples or
+ * substrings, and a path never holds on to the classes it has walked. A null
+ * value part way along the path short-circuits a get to null. If a hop
+ * reaches a value that is itself a {@link Tuple} the rest of the path is
+ * delegated to that tuple.
+ * </p>
+ * <p>
+ * Parsed paths are shared, up to {@link #MAX_CACHED_PATHS} distinct references.
+ * References beyond that are parsed on every use, so references taken from
+ * data cannot grow the cache without limit.
+ * </p>
+ */
+final class PropertyPath {
+    /**
+     * The maximum number of parsed paths that are shared.
+     */
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private static final Map<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+
+    private final String[] references;
+    private final String[] remainders;
+
+    private PropertyPath(final String path) {
+        references = path.split("\\.", -1);
+        remainders = new String[references.length];
+
+        int offset = 0;
+        for (int i = 0; i < references.length; i++) {
+            if (references[i].isEmpty()) {
+                if (i > 0 && i == references.length - 1) {
+                    throw new IllegalArgumentException("nested field reference is required");
+                }
+                throw new IllegalArgumentException("field reference is required");
+            }
+            remainders[i] = path.substring(offset);
+            offset += references[i].length() + 1;
+        }
+    }
+
+    /**
+     * Get the parsed path for a reference, parsing it on first use.
+     * Once {@link #MAX_CACHED_PATHS} paths are shared, new references are parsed on every use.
+     *
+     * @param reference the reference, optionally containing nested parts separated by '.'.
+     * @return the parsed path.
+     */
+    static PropertyPath of(final String reference) {
+        PropertyPath path = PATHS.get(reference);
+        if (isNull(path)) {
+            if (PATHS.size() >= MAX_CACHED_PATHS) {
+                return new PropertyPath(reference);
+            }
+            path = PATHS.computeIfAbsent(reference, PropertyPath::new);
+        }
+        return path;
+    }
+
+    Object get(final ReflectiveTuple tuple) {
+        final int last = references.length - 1;
+        Object current = tuple.getRecord();
+        for (int i = 0; i < last; i++) {
+            if (THIS.equals(references[i])) {
+                continue;
+            }
+            current = planFor(i, current.getClass()).get(current);
+            if (isNull(current)) {
+                return null;
+            }
+            if (current instanceof Tuple) {
+                return ((Tuple<String>) current).get(remainders[i + 1]);
+            }
+        }
+
+        if (THIS.equals(references[last])) {
+            return 0 == last ? tuple : new ReflectiveTuple(current);
+        }
+        return planFor(last, current.getClass()).get(current);
+    }
+
+    void put(final ReflectiveTuple tuple, final Object value) {
+        final int last = references.length - 1;
+        Object current = tuple.getRecord();
+        for (int i = 0; i < last; i++) {
+            if (THIS.equals(references[i])) {
+                continue;
+            }
+            current = planFor(i, current.getClass()).get(current);
+            if (isNull(current)) {
+                throw new IllegalArgumentException("Unable to put " + remainders[0] + " as " + references[i] + " is null");
+            }
+            if (current instanceof Tuple) {
+                ((Tuple<String>) current).put(remainders[i + 1], value);
+                return;
+            }
+        }
+
+        planFor(last, current.getClass()).put(current, value);
+    }
+
+    private PropertyPlan planFor(final int index, final Class<?> type) {
+        return PropertyPlan.of(type, references[index]);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static uk.gov.gchq.koryphe.tuple.ReflectiveTuple.ERROR_WRONG_PARAM;
+import static uk.gov.gchq.koryphe.tuple.ReflectiveTuple.SELECTION_S_DOES_NOT_EXIST;
+
+/**
+ * <p>
+ * A {@code PropertyPlan} is the resolved way of reading and writing a single
+ * reference on a single class, as used by {@link ReflectiveTuple}.
+ * </p>
+ * <p>
+ * A plan is resolved once per (class, reference) pair and cached per class,
+ * including for references that do not exist. Reads use a getX getter, then
+ * an isX getter, then a public field X. Writes use a setX method, then a
+ * public field X. The getters and setters are compiled to {@link MethodHandle}s,
+ * so later lookups never build or throw a lookup exception.
+ * </p>
+ * <p>
+ * Up to {@link #MAX_CACHED_PLANS} plans are cached for each class. Plans for
+ * further references are resolved on every use, so references taken from data
+ * cannot grow the cache without limit.
+ * </p>
+ */
+final class PropertyPlan {
+    /**
+     * The maximum number of plans cached for each class.
+     */
+    static final int MAX_CACHED_PLANS = 1024;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ClassValue<ConcurrentMap<String, PropertyPlan>> PLANS = new ClassValue<ConcurrentMap<String, PropertyPlan>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyPlan> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    enum GetKind {
+        GETTER, IS_GETTER, FIELD, ABSENT
+    }
+
+    enum PutKind {
+        SETTER, FIELD, ABSENT
+    }
+
+    private final String missingMessage;
+    private final GetKind getKind;
+    private final MethodHandle getter;
+    private final PutKind putKind;
+    private final MethodHandle setter;
+    private final String setterName;
+    private final Class<?> setterValueType;
+    private final Object setterTypeDescription;
+
+    private PropertyPlan(final Class<?> type, final String reference) {
+        this.missingMessage = String.format(SELECTION_S_DOES_NOT_EXIST, reference);
+
+        final Method[] methods = type.getMethods();
+        final Field field = findField(type, reference);
+
+        Method getMethod = findGetter(methods, ReflectiveTuple.getPrefixRef("get", reference));
+        GetKind resolvedGetKind = GetKind.GETTER;
+        if (isNull(getMethod)) {
+            getMethod = findGetter(methods, ReflectiveTuple.getPrefixRef("is", reference));
+            resolvedGetKind = GetKind.IS_GETTER;
+        }
+        MethodHandle resolvedGetter = isNull(getMethod) ? null : unreflect(getMethod, GETTER_TYPE);
+        if (isNull(resolvedGetter) && nonNull(field)) {
+            resolvedGetter = unreflectGetter(field);
+            resolvedGetKind = GetKind.FIELD;
+        }
+        this.getter = resolvedGetter;
+        this.getKind = isNull(resolvedGetter) ? GetKind.ABSENT : resolvedGetKind;
+
+        final Method setMethod = findSetter(methods, ReflectiveTuple.getPrefixRef("set", reference));
+        MethodHandle resolvedSetter = isNull(setMethod) ? null : unreflect(setMethod, SETTER_TYPE);
+        if (nonNull(resolvedSetter)) {
+            this.putKind = PutKind.SETTER;
+            this.setterName = setMethod.getName();
+            this.setterValueType = wrap(setMethod.getParameterTypes()[0]);
+            this.setterTypeDescription = Arrays.asList(setMethod.getParameterTypes());
+        } else {
+            resolvedSetter = isNull(field) ? null : unreflectSetter(field);
+            this.putKind = isNull(resolvedSetter) ? PutKind.ABSENT : PutKind.FIELD;
+            this.setterName = isNull(field) ? null : field.getName();
+            this.setterValueType = isNull(field) ? null : wrap(field.getType());
+            this.setterTypeDescription = isNull(field) ? null : field.getType();
+        }
+        this.setter = resolvedSetter;
+    }
+
+    /**
+     * Get the plan for a reference on a class, resolving it on first use.
+     * Once {@link #MAX_CACHED_PLANS} plans are cached for the class, new references are resolved on every use.
+     *
+     * @param type      the class of the records the plan will be applied to.
+     * @param reference the simple (non nested) reference.
+     * @return the resolved plan.
+     */
+    static PropertyPlan of(final Class<?> type, final String reference) {
+        final ConcurrentMap<String, PropertyPlan> plans = PLANS.get(type);
+        PropertyPlan plan = plans.get(reference);
+        if (isNull(plan)) {
+            if (plans.size() >= MAX_CACHED_PLANS) {
+                return new PropertyPlan(type, reference);
+            }
+            plan = plans.computeIfAbsent(reference, ref -> new PropertyPlan(type, ref));
+        }
+        return plan;
+    }
+
+    Object get(final Object record) {
+        if (GetKind.ABSENT == getKind) {
+            throw new RuntimeException(missingMessage);
+        }
+
+        try {
+            return (Object) getter.invokeExact(record);
+        } catch (final Throwable e) {
+            throw new RuntimeException(missingMessage, e);
+        }
+    }
+
+    void put(final Object record, final Object value) {
+        if (PutKind.ABSENT == putKind) {
+            throw new RuntimeException(missingMessage);
+        }
+
+        if (nonNull(value) && !setterValueType.isInstance(value)) {
+            throw new IllegalArgumentException(String.format(ERROR_WRONG_PARAM,
+                    PutKind.SETTER == putKind ? "method" : "field", setterName, setterTypeDescription, value.getClass().getSimpleName()));
+        }
+
+        try {
+            setter.invokeExact(record, value);
+        } catch (final Throwable e) {
+            throw new RuntimeException(missingMessage, e);
+        }
+    }
+
+    GetKind getGetKind() {
+        return getKind;
+    }
+
+    PutKind getPutKind() {
+        return putKind;
+    }
+
+    private static Method findGetter(final Method[] methods, final String name) {
+        Method rtn = null;
+        for (final Method method : methods) {
+            if (method.getName().equals(name) && 0 == method.getParameterCount()
+                    && (isNull(rtn) || rtn.isBridge())) {
+                rtn = method;
+            }
+        }
+        return rtn;
+    }
+
+    private static Method findSetter(final Method[] methods, final String name) {
+        for (final Method method : methods) {
+            if (method.getName().equals(name) && 1 == method.getParameterCount()) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(final Class<?> type, final String name) {
+        for (final Field field : type.getFields()) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static MethodHandle unreflect(final Method method, final MethodType targetType) {
+        try {
+            return adapt(LOOKUP.unreflect(method), method.getModifiers(), targetType);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(final Field field) {
+        try {
+            return adapt(LOOKUP.unreflectGetter(field), field.getModifiers(), GETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(final Field field) {
+        try {
+            return adapt(LOOKUP.unreflectSetter(field), field.getModifiers(), SETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle adapt(final MethodHandle handle, final int modifiers, final MethodType targetType) {
+        final MethodHandle receiverHandle = Modifier.isStatic(modifiers) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+        return receiverHandle.asType(targetType);
+    }
+}
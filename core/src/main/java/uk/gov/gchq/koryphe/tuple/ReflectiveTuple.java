@@ -39,6 +39,13 @@ import static java.util.Objects.requireNonNull;
  * The field 'X' must either be public or have a public getter named getX or isX.
  * </p>
  * <p>
+ * By default each reference is parsed once into a {@link PropertyPath} and
+ * resolved once per class into a {@link PropertyPlan}, which holds a compiled
+ * getter and setter (or a cached negative result) and is invoked directly for
+ * every later record of that class. Subclasses that
+ * supply their own {@link Cache}s use plain reflection on every call instead.
+ * </p>
+ * <p>
  * Reflection is expensive and this class should only be used for testing,
  * at small scales or as a temporary solution.
  * </p>
@@ -46,8 +53,6 @@ import static java.util.Objects.requireNonNull;
 public class ReflectiveTuple implements Tuple<String> {
     public static final String SELECTION_S_DOES_NOT_EXIST = "Selection: %s does not exist.";
 
-    private static final Cache<Field> STATIC_FIELD_CACHE = new Cache<>();
-    private static final Cache<Method> STATIC_METHOD_CACHE = new Cache<>();
     public static final String ERROR_WRONG_PARAM = "The put %s: %s, requires parameter of type: %s, but found: %s";
 
     private final Object record;
@@ -58,11 +63,15 @@ public class ReflectiveTuple implements Tuple<String> {
      * @param record object to wrap
      */
     public ReflectiveTuple(final Object record) {
-        this(record, STATIC_FIELD_CACHE, STATIC_METHOD_CACHE);
+        this.record = record;
+        this.fieldCache = null;
+        this.methodCache = null;
     }
 
     /**
      * Construct a {@link ReflectiveTuple} with the given record and caches.
+     * Fields and methods are looked up in the caches and invoked reflectively
+     * on every call, rather than using compiled accessors.
      *
      * @param record      the record to expose as a {@link Tuple}.
      * @param fieldCache  the cache to use for {@link Field}s.
@@ -92,6 +101,10 @@ public class ReflectiveTuple implements Tuple<String> {
             return this;
         }
 
+        if (isNull(methodCache)) {
+            return PropertyPath.of(reference).get(this);
+        }
+
         Object selection;
         final int index = reference.indexOf(".");
         if (index > -1) {
@@ -125,6 +138,12 @@ public class ReflectiveTuple implements Tuple<String> {
         if (reference.isEmpty()) {
             throw new IllegalArgumentException("field reference is required");
         }
+
+        if (isNull(methodCache)) {
+            PropertyPath.of(reference).put(this, value);
+            return;
+        }
+
         final int index = reference.indexOf(".");
         if (index > -1) {
             final String referencePart = reference.substring(0, index);
@@ -228,7 +247,7 @@ public class ReflectiveTuple implements Tuple<String> {
         return rtn;
     }
 
-    private String getPrefixRef(final String prefix, final String reference) {
+    static String getPrefixRef(final String prefix, final String reference) {
         final boolean startsWithPrefix = reference.toLowerCase(Locale.getDefault()).startsWith(prefix);
         return startsWithPrefix ? reference : prefix + Character.toUpperCase(reference.charAt(0)) + reference.substring(1);
     }
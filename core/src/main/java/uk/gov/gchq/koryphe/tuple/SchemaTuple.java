@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * A <code>SchemaTuple</code> is a {@link Tuple} backed by an array of {@link Object}s,
+ * with the slot of each field reference given by a {@link TupleSchema}.
+ * Values can be accessed by reference or directly by slot.
+ *
+ * @param <R> The type of reference used to name the fields.
+ * @see TupleSchema#createTuple()
+ */
+public class SchemaTuple<R> implements Tuple<R> {
+    private final TupleSchema<R> schema;
+    private final Object[] values;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "This class is designed to simply wrap an object array.")
+    SchemaTuple(final TupleSchema<R> schema, final Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    public TupleSchema<R> getSchema() {
+        return schema;
+    }
+
+    @Override
+    public Object get(final R reference) {
+        if (THIS.equals(reference)) {
+            return this;
+        }
+
+        final int slot = schema.indexOf(reference);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public void put(final R reference, final Object value) {
+        final int slot = schema.indexOf(reference);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Field: " + reference + " is not in the schema");
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Get a value from this <code>SchemaTuple</code> at the given slot.
+     *
+     * @param slot Value slot.
+     * @return Value.
+     */
+    public Object getSlot(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Put a value into this <code>SchemaTuple</code> at the given slot.
+     *
+     * @param slot  Value slot.
+     * @param value Value to put.
+     */
+    public void putSlot(final int slot, final Object value) {
+        values[slot] = value;
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return Arrays.asList(values);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return values().iterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final SchemaTuple<?> that = (SchemaTuple<?>) obj;
+
+        return new EqualsBuilder()
+                .append(schema, that.schema)
+                .append(values, that.values)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(19, 43)
+                .append(schema)
+                .append(values)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("schema", schema)
+                .append("values", values)
+                .build();
+    }
+}
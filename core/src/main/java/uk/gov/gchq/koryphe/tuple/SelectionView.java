@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.tuple.n.Tuple5;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * A <code>SelectionView</code> is a reusable equivalent of a {@link ReferenceArrayTuple}
+ * or {@link SlotArrayTuple}. It is rebound to each tuple a {@link TupleInputAdapter}
+ * is applied to, rather than a new selection being allocated per tuple.
+ * </p>
+ * <p>
+ * {@link #values()} and {@link #iterator()} read straight through to the underlying
+ * tuple without copying. As the view is rebound on a later call to the adapter, it
+ * must not be held on to beyond the scope of the call it was created for.
+ * </p>
+ *
+ * @param <R> The type of reference used by the underlying tuple.
+ * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+ */
+public class SelectionView<R> extends Tuple5 {
+    private final R[] fields;
+    private final int[] slots;
+    private Tuple<R> tuple;
+    private SchemaTuple<?> schemaTuple;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the arrays would be expensive - we will have to reply on users not modifying the arrays")
+    SelectionView(final R[] fields, final int[] slots) {
+        this.fields = fields;
+        this.slots = slots;
+    }
+
+    SelectionView<R> rebind(final Tuple<R> tuple) {
+        this.tuple = tuple;
+        this.schemaTuple = null;
+        return this;
+    }
+
+    SelectionView<R> rebindSlots(final SchemaTuple<?> schemaTuple) {
+        this.tuple = null;
+        this.schemaTuple = schemaTuple;
+        return this;
+    }
+
+    @Override
+    public Object get(final Integer index) {
+        if (index < fields.length) {
+            if (null != schemaTuple) {
+                return schemaTuple.getSlot(slots[index]);
+            }
+            if (null != tuple) {
+                return tuple.get(fields[index]);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(final Integer index, final Object value) {
+        if (index < fields.length) {
+            if (null != schemaTuple) {
+                schemaTuple.putSlot(slots[index], value);
+            } else if (null != tuple) {
+                tuple.put(fields[index], value);
+            }
+        }
+    }
+
+    /**
+     * @return a copy of the selected values, which does not change when the view is rebound.
+     */
+    public ArrayTuple copy() {
+        final Object[] values = new Object[fields.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return new ArrayTuple(values);
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return this;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < fields.length;
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final SelectionView that = (SelectionView) obj;
+
+        return new EqualsBuilder()
+                .append(fields, that.fields)
+                .append(tuple, that.tuple)
+                .append(schemaTuple, that.schemaTuple)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(29, 53)
+                .append(fields)
+                .append(tuple)
+                .append(schemaTuple)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("fields", fields)
+                .append("tuple", null != schemaTuple ? schemaTuple : tuple)
+                .build();
+    }
+}
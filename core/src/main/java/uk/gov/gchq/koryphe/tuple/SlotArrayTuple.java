@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.tuple.n.Tuple5;
+
+import java.util.Iterator;
+
+/**
+ * A <code>SlotArrayTuple</code> is the equivalent of a {@link ReferenceArrayTuple} for
+ * a {@link SchemaTuple}, selecting values by their slot rather than by reference.
+ */
+public class SlotArrayTuple extends Tuple5 {
+    private final int[] slots;
+    private final SchemaTuple<?> tuple;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
+    public SlotArrayTuple(final SchemaTuple<?> tuple, final int[] slots) {
+        this.tuple = tuple;
+        this.slots = slots;
+    }
+
+    @Override
+    public Object get(final Integer index) {
+        if (null != tuple && index < slots.length) {
+            return tuple.getSlot(slots[index]);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(final Integer index, final Object value) {
+        if (null != tuple && index < slots.length) {
+            tuple.putSlot(slots[index], value);
+        }
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        final ArrayTuple selected = new ArrayTuple(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            selected.put(i, get(i));
+        }
+        return selected;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return values().iterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final SlotArrayTuple that = (SlotArrayTuple) obj;
+
+        return new EqualsBuilder()
+                .append(slots, that.slots)
+                .append(tuple, that.tuple)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(13, 37)
+                .append(slots)
+                .append(tuple)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("slots", slots)
+                .append("tuple", tuple)
+                .build();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A <code>TupleBatch</code> holds a batch of records in columns, with one array per
+ * field of a {@link TupleSchema}. A selection vector lists the rows of the batch that
+ * are still selected, in ascending order; rows are selected as they are added, and
+ * predicates applied to the batch narrow the selection.
+ * </p>
+ * <p>
+ * Tuple-adapted predicates, functions and binary operators can be applied to a whole
+ * batch at once, processing the selected rows of a column in a single loop rather than
+ * adapting each record in turn.
+ * </p>
+ *
+ * @param <R> The type of reference used to name the fields.
+ * @see uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate#testBatch(TupleBatch)
+ * @see uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction#applyBatch(TupleBatch)
+ * @see uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator#applyBatch(Tuple, TupleBatch)
+ */
+public class TupleBatch<R> {
+    private final TupleSchema<R> schema;
+    private final Object[][] columns;
+    private final int[] selection;
+    private int rowCount;
+    private int selectedCount;
+
+    /**
+     * Create an empty <code>TupleBatch</code>.
+     *
+     * @param schema   the fields of the batch.
+     * @param capacity the maximum number of rows.
+     */
+    public TupleBatch(final TupleSchema<R> schema, final int capacity) {
+        requireNonNull(schema, "schema is required");
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.schema = schema;
+        this.columns = new Object[schema.size()][capacity];
+        this.selection = new int[capacity];
+    }
+
+    public TupleSchema<R> getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return the maximum number of rows.
+     */
+    public int getCapacity() {
+        return selection.length;
+    }
+
+    /**
+     * @return the number of rows in the batch, whether selected or not.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Add a row to the batch and select it.
+     *
+     * @param values the values of the row, in slot order.
+     * @return the index of the new row.
+     * @throws IllegalArgumentException if the number of values does not match the schema.
+     * @throws IllegalStateException    if the batch is full.
+     */
+    public int addRow(final Object... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " values but found " + values.length);
+        }
+        final int row = nextRow();
+        for (int slot = 0; slot < columns.length; slot++) {
+            columns[slot][row] = values[slot];
+        }
+        return row;
+    }
+
+    /**
+     * Add a row to the batch, reading each field of the schema from a tuple, and select it.
+     *
+     * @param tuple the tuple to copy.
+     * @return the index of the new row.
+     * @throws IllegalStateException if the batch is full.
+     */
+    public int addRow(final Tuple<R> tuple) {
+        final int row = nextRow();
+        final R[] fields = schema.getFields();
+        for (int slot = 0; slot < columns.length; slot++) {
+            columns[slot][row] = tuple.get(fields[slot]);
+        }
+        return row;
+    }
+
+    /**
+     * Get the column holding a field. Only the first {@link #getRowCount()} entries are rows of the batch.
+     *
+     * @param reference Field reference.
+     * @return the column array, which is not copied.
+     * @throws IllegalArgumentException if the field is not in the schema.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Columns are exposed so they can be processed in place")
+    public Object[] getColumn(final R reference) {
+        return columns[slotOf(reference)];
+    }
+
+    public Object get(final int row, final R reference) {
+        return columns[slotOf(reference)][row];
+    }
+
+    public void put(final int row, final R reference, final Object value) {
+        columns[slotOf(reference)][row] = value;
+    }
+
+    /**
+     * @return the number of selected rows.
+     */
+    public int getSelectedCount() {
+        return selectedCount;
+    }
+
+    /**
+     * Get the selection vector. Only the first {@link #getSelectedCount()} entries are selected rows.
+     *
+     * @return the selection vector, which is not copied.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The selection vector is exposed so it can be narrowed in place")
+    public int[] getSelection() {
+        return selection;
+    }
+
+    /**
+     * Set the selected rows. The given rows may be the batch's own selection vector.
+     *
+     * @param rows  the selected rows, in ascending order.
+     * @param count the number of selected rows.
+     */
+    public void setSelection(final int[] rows, final int count) {
+        if (count < 0 || count > rowCount) {
+            throw new IllegalArgumentException("Selected count must be between 0 and " + rowCount + " but was " + count);
+        }
+        if (rows != selection) {
+            System.arraycopy(rows, 0, selection, 0, count);
+        }
+        selectedCount = count;
+    }
+
+    /**
+     * Select every row in the batch.
+     */
+    public void selectAll() {
+        for (int row = 0; row < rowCount; row++) {
+            selection[row] = row;
+        }
+        selectedCount = rowCount;
+    }
+
+    /**
+     * Remove all rows from the batch.
+     */
+    public void clear() {
+        for (final Object[] column : columns) {
+            Arrays.fill(column, 0, rowCount, null);
+        }
+        rowCount = 0;
+        selectedCount = 0;
+    }
+
+    /**
+     * @return a {@link Row} view of this batch, positioned at the first row.
+     */
+    public Row row() {
+        return new Row();
+    }
+
+    private int nextRow() {
+        if (rowCount == selection.length) {
+            throw new IllegalStateException("Batch is full, capacity: " + selection.length);
+        }
+        selection[selectedCount++] = rowCount;
+        return rowCount++;
+    }
+
+    private int slotOf(final R reference) {
+        final int slot = schema.indexOf(reference);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Field: " + reference + " is not in the schema");
+        }
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("schema", schema)
+                .append("rowCount", rowCount)
+                .append("selectedCount", selectedCount)
+                .build();
+    }
+
+    /**
+     * A <code>Row</code> is a {@link Tuple} view of a single row of a {@link TupleBatch}.
+     * It can be moved between rows, so that scalar components can be applied to each
+     * row of a batch without copying the values out of the columns.
+     */
+    public final class Row implements Tuple<R> {
+        private int index;
+
+        private Row() {
+        }
+
+        /**
+         * Move this view to another row.
+         *
+         * @param row the index of the row.
+         * @return this view.
+         */
+        public Row moveTo(final int row) {
+            this.index = row;
+            return this;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public Object get(final R reference) {
+            if (THIS.equals(reference)) {
+                return this;
+            }
+
+            final int slot = schema.indexOf(reference);
+            return slot < 0 ? null : columns[slot][index];
+        }
+
+        @Override
+        public void put(final R reference, final Object value) {
+            columns[slotOf(reference)][index] = value;
+        }
+
+        @Override
+        public Iterable<Object> values() {
+            return new AbstractList<Object>() {
+                @Override
+                public Object get(final int slot) {
+                    return columns[slot][index];
+                }
+
+                @Override
+                public int size() {
+                    return columns.length;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("index", index)
+                    .append("values", values())
+                    .build();
+        }
+    }
+}
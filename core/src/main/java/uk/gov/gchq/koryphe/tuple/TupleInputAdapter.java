@@ -25,6 +25,7 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
 
@@ -35,7 +36,30 @@ import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
 @Since("1.0.0")
 @Summary("Extracts items from a tuple")
 public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
+    /**
+     * How the views of a multi-field selection are reused between calls to
+     * {@link TupleInputAdapter#apply(Tuple)}.
+     */
+    public enum ViewReuse {
+        /**
+         * A new selection is allocated for every tuple.
+         */
+        NONE,
+        /**
+         * Views are shared by all callers of the adapter, so it must only be used by one thread.
+         */
+        PER_ADAPTER,
+        /**
+         * Each thread has its own views.
+         */
+        PER_THREAD
+    }
+
     private R[] selection;
+    private TupleSchema<R> schema;
+    private int[] slots;
+    private ViewReuse viewReuse = ViewReuse.NONE;
+    private Supplier<ViewPool<R>> views;
 
     /**
      * Create a new <code>TupleMask</code>.
@@ -59,15 +83,86 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
             throw new IllegalArgumentException("Selection is required");
         }
 
+        if (null != slots && input instanceof SchemaTuple && ((SchemaTuple<R>) input).getSchema() == schema) {
+            final SchemaTuple<R> schemaTuple = (SchemaTuple<R>) input;
+            if (1 == slots.length) {
+                return (FI) schemaTuple.getSlot(slots[0]);
+            }
+            if (null != views) {
+                return (FI) views.get().next().rebindSlots(schemaTuple);
+            }
+            return (FI) new SlotArrayTuple(schemaTuple, slots);
+        }
+
         if (null != input) {
             if (1 == selection.length) {
                 return (FI) input.get(selection[0]);
             }
         }
 
+        if (null != views) {
+            return (FI) views.get().next().rebind(input);
+        }
         return (FI) new ReferenceArrayTuple<>(input, selection);
     }
 
+    /**
+     * Bind this <code>TupleInputAdapter</code> to a {@link TupleSchema}, resolving the
+     * selection to slots. {@link SchemaTuple}s of the same schema instance are then
+     * read by slot, while any other tuple is still read by reference.
+     *
+     * @param schema the schema to bind to.
+     * @throws IllegalArgumentException if the selection contains a field that is not in the schema.
+     */
+    public void bind(final TupleSchema<R> schema) {
+        this.slots = null == schema ? null : schema.indexesOf(selection);
+        this.schema = schema;
+        resetViews();
+    }
+
+    /**
+     * <p>
+     * Reuse the views of a multi-field selection rather than allocating a new one
+     * for every tuple. A {@link SelectionView} is rebound to each tuple and reads
+     * straight through to it, so its values are not copied.
+     * </p>
+     * <p>
+     * Two views are kept and used alternately, so that both the inputs of a binary
+     * operator can be adapted at once. A view is therefore only safe to use within
+     * the scope of the call it was returned from, and must not be stored.
+     * </p>
+     *
+     * @param viewReuse how views are reused, or null for {@link ViewReuse#NONE}.
+     */
+    public void reuseViews(final ViewReuse viewReuse) {
+        this.viewReuse = requireNonNullElse(viewReuse, ViewReuse.NONE);
+        resetViews();
+    }
+
+    private void resetViews() {
+        final R[] fields = selection;
+        final int[] fieldSlots = slots;
+        switch (viewReuse) {
+            case PER_ADAPTER:
+                final ViewPool<R> pool = new ViewPool<>(fields, fieldSlots);
+                views = () -> pool;
+                break;
+            case PER_THREAD:
+                final ThreadLocal<ViewPool<R>> pools = ThreadLocal.withInitial(() -> new ViewPool<>(fields, fieldSlots));
+                views = pools::get;
+                break;
+            default:
+                views = null;
+        }
+    }
+
+    /**
+     * @return the selected field reference if exactly one field is selected, otherwise null.
+     */
+    public R singleSelection() {
+        return 1 == selection.length ? selection[0] : null;
+    }
+
     /**
      * @return Field references.
      */
@@ -83,6 +178,11 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
     public void setSelection(final R[] selection) {
         this.selection = requireNonNullElse(selection, (R[]) new Object[0]);
+        if (null != schema) {
+            bind(schema);
+        } else {
+            resetViews();
+        }
     }
 
     @Override
@@ -108,4 +208,20 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
                 .append(selection)
                 .toHashCode();
     }
+
+    private static final class ViewPool<R> {
+        private final SelectionView<R> first;
+        private final SelectionView<R> second;
+        private boolean useSecond;
+
+        private ViewPool(final R[] fields, final int[] slots) {
+            first = new SelectionView<>(fields, slots);
+            second = new SelectionView<>(fields, slots);
+        }
+
+        private SelectionView<R> next() {
+            useSecond = !useSecond;
+            return useSecond ? second : first;
+        }
+    }
 }
@@ -23,8 +23,16 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.tuple.n.Tuple1;
+import uk.gov.gchq.koryphe.tuple.n.Tuple2;
+import uk.gov.gchq.koryphe.tuple.n.Tuple3;
+import uk.gov.gchq.koryphe.tuple.n.Tuple4;
+import uk.gov.gchq.koryphe.tuple.n.Tuple5;
+import uk.gov.gchq.koryphe.tuple.n.TupleN;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
@@ -37,7 +45,13 @@ import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
 @Summary("Projects items to a tuple")
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
 public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple<R>> {
+    private static final Set<Class<?>> ARRAY_BACKED = new HashSet<>(Arrays.asList(
+            ArrayTuple.class, TupleN.class, Tuple1.class, Tuple2.class, Tuple3.class, Tuple4.class, Tuple5.class));
+
     private R[] projection;
+    private TupleSchema<R> schema;
+    private int[] slots;
+    private int[] indexes;
 
     /**
      * Create a new <code>TupleMask</code>.
@@ -55,19 +69,78 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
         setProjection(projection);
     }
 
+    /**
+     * Project an output into a tuple. Where there are several projected fields and the output
+     * is an {@link ArrayTuple}, {@link uk.gov.gchq.koryphe.tuple.n.TupleN} or <code>Object[]</code>,
+     * the values are copied by index rather than iterated, and straight into the backing array
+     * when the state is an array-backed tuple projected by index. A reused {@link SelectionView}
+     * is copied before it is projected.
+     *
+     * @param state          the tuple to project into.
+     * @param functionOutput the output to project.
+     * @return the state.
+     * @throws IllegalArgumentException if the number of output values does not match the projection.
+     */
     @Override
-    public Tuple<R> apply(final Tuple<R> state, final FO output) {
+    public Tuple<R> apply(final Tuple<R> state, final FO functionOutput) {
         if (null == projection) {
             throw new IllegalArgumentException("Projection is required");
         }
 
-        if (null != state) {
+        // A reused selection view reads through to the tuple it was selected from, which may be
+        // the state being projected into, and is rebound on the next call, so copy its values first
+        final Object output = functionOutput instanceof SelectionView ? ((SelectionView<?>) functionOutput).copy() : functionOutput;
+
+        if (null != slots && state instanceof SchemaTuple && ((SchemaTuple<R>) state).getSchema() == schema) {
+            final SchemaTuple<R> schemaTuple = (SchemaTuple<R>) state;
+            if (1 == slots.length) {
+                schemaTuple.putSlot(slots[0], output);
+            } else {
+                final Object[] outputs = toArray(output);
+                if (null != outputs) {
+                    checkSize(outputs.length);
+                    for (int i = 0; i < slots.length; i++) {
+                        schemaTuple.putSlot(slots[i], outputs[i]);
+                    }
+                } else {
+                    int i = 0;
+                    for (final Object obj : (Iterable) output) {
+                        if (i == projection.length) {
+                            checkSize(i + 1);
+                        }
+                        schemaTuple.putSlot(slots[i++], obj);
+                    }
+                    checkSize(i);
+                }
+            }
+        } else if (null != state) {
             if (1 == projection.length) {
                 state.put(projection[0], output);
             } else {
-                int i = 0;
-                for (final Object obj : (Iterable) output) {
-                    state.put(projection[i++], obj);
+                final Object[] outputs = toArray(output);
+                if (null != outputs) {
+                    checkSize(outputs.length);
+                    final Object[] target = null != indexes ? toArray(state) : null;
+                    if (null != target) {
+                        for (int i = 0; i < indexes.length; i++) {
+                            if (indexes[i] < target.length) {
+                                target[indexes[i]] = outputs[i];
+                            }
+                        }
+                    } else {
+                        for (int i = 0; i < projection.length; i++) {
+                            state.put(projection[i], outputs[i]);
+                        }
+                    }
+                } else {
+                    int i = 0;
+                    for (final Object obj : (Iterable) output) {
+                        if (i == projection.length) {
+                            checkSize(i + 1);
+                        }
+                        state.put(projection[i++], obj);
+                    }
+                    checkSize(i);
                 }
             }
         }
@@ -75,6 +148,19 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
         return state;
     }
 
+    /**
+     * Bind this <code>TupleOutputAdapter</code> to a {@link TupleSchema}, resolving the
+     * projection to slots. {@link SchemaTuple}s of the same schema instance are then
+     * written by slot, while any other tuple is still written by reference.
+     *
+     * @param schema the schema to bind to.
+     * @throws IllegalArgumentException if the projection contains a field that is not in the schema.
+     */
+    public void bind(final TupleSchema<R> schema) {
+        this.slots = null == schema ? null : schema.indexesOf(projection);
+        this.schema = schema;
+    }
+
     /**
      * Set this <code>TupleMask</code> to refer to a tuple of field references.
      *
@@ -83,6 +169,17 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
     public void setProjection(final R[] projection) {
         this.projection = requireNonNullElse(projection, (R[]) new Object[0]);
+        this.indexes = toIndexes(this.projection);
+        if (null != schema) {
+            bind(schema);
+        }
+    }
+
+    /**
+     * @return the projected field reference if exactly one field is projected, otherwise null.
+     */
+    public R singleProjection() {
+        return 1 == projection.length ? projection[0] : null;
     }
 
     /**
@@ -92,6 +189,42 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
         return Arrays.copyOf(projection, projection.length);
     }
 
+    private void checkSize(final int size) {
+        if (size > projection.length) {
+            throw new IllegalArgumentException("Projection " + Arrays.toString(projection) + " has "
+                    + projection.length + " fields but the output has more values");
+        }
+        if (size < projection.length) {
+            throw new IllegalArgumentException("Projection " + Arrays.toString(projection) + " has "
+                    + projection.length + " fields but the output has " + size + " values");
+        }
+    }
+
+    // The indexes of a projection made up only of non-negative Integer references, otherwise null.
+    private static int[] toIndexes(final Object[] projection) {
+        final int[] rtn = new int[projection.length];
+        for (int i = 0; i < projection.length; i++) {
+            if (!(projection[i] instanceof Integer) || (Integer) projection[i] < 0) {
+                return null;
+            }
+            rtn[i] = (Integer) projection[i];
+        }
+        return rtn;
+    }
+
+    // The array holding the values of an Object[] or of a tuple that reads and writes its backing
+    // array directly, otherwise null. Subclasses such as ReferenceArrayTuple override get and put,
+    // so only the exact array-backed classes are matched.
+    private static Object[] toArray(final Object value) {
+        if (value instanceof Object[]) {
+            return (Object[]) value;
+        }
+        if (null != value && ARRAY_BACKED.contains(value.getClass())) {
+            return ((ArrayTuple) value).backingArray();
+        }
+        return null;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
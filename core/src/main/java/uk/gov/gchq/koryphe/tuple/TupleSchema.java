@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A <code>TupleSchema</code> is an ordered set of field references, declared once
+ * for a pipeline. Each field is assigned an integer slot, and records are held as
+ * {@link SchemaTuple}s backed by an array with one entry per slot.
+ * </p>
+ * <p>
+ * {@link TupleInputAdapter}s and {@link TupleOutputAdapter}s can be bound to a
+ * schema, which resolves their selections and projections to slots once so that
+ * per-record field access on a {@link SchemaTuple} of that schema is a plain array index.
+ * </p>
+ *
+ * @param <R> The type of reference used to name the fields.
+ */
+public class TupleSchema<R> {
+    private final R[] fields;
+    private final Map<R, Integer> slots;
+
+    /**
+     * Create a <code>TupleSchema</code> with the given field references.
+     *
+     * @param fields Field references, in slot order.
+     */
+    @SafeVarargs
+    public TupleSchema(final R... fields) {
+        requireNonNull(fields, "fields are required");
+        this.fields = Arrays.copyOf(fields, fields.length);
+        this.slots = new HashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            if (null != slots.put(fields[i], i)) {
+                throw new IllegalArgumentException("Duplicate field: " + fields[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of fields in this schema.
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * @return Field references, in slot order.
+     */
+    public R[] getFields() {
+        return Arrays.copyOf(fields, fields.length);
+    }
+
+    /**
+     * Get the slot of a field reference.
+     *
+     * @param reference Field reference.
+     * @return the slot of the field, or -1 if the field is not in this schema.
+     */
+    public int indexOf(final R reference) {
+        final Integer slot = slots.get(reference);
+        return isNull(slot) ? -1 : slot;
+    }
+
+    /**
+     * Resolve the slots of some field references.
+     *
+     * @param references Field references.
+     * @return the slot of each field.
+     * @throws IllegalArgumentException if any of the fields are not in this schema.
+     */
+    public int[] indexesOf(final R[] references) {
+        final int[] rtn = new int[references.length];
+        for (int i = 0; i < references.length; i++) {
+            rtn[i] = indexOf(references[i]);
+            if (rtn[i] < 0) {
+                throw new IllegalArgumentException("Field: " + references[i] + " is not in the schema: " + Arrays.toString(fields));
+            }
+        }
+        return rtn;
+    }
+
+    /**
+     * @return a new, empty {@link SchemaTuple} of this schema.
+     */
+    public SchemaTuple<R> createTuple() {
+        return new SchemaTuple<>(this, new Object[fields.length]);
+    }
+
+    /**
+     * Create a {@link SchemaTuple} of this schema backed by the given array.
+     *
+     * @param values Array backing the tuple, in slot order.
+     * @return a {@link SchemaTuple} of this schema.
+     */
+    public SchemaTuple<R> createTuple(final Object... values) {
+        if (values.length != fields.length) {
+            throw new IllegalArgumentException("Expected " + fields.length + " values but found " + values.length);
+        }
+        return new SchemaTuple<>(this, values);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final TupleSchema<?> that = (TupleSchema<?>) obj;
+
+        return new EqualsBuilder()
+                .append(fields, that.fields)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 41)
+                .append(fields)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("fields", fields)
+                .build();
+    }
+}
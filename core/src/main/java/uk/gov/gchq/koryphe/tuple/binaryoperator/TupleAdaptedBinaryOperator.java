@@ -22,11 +22,17 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.AdaptedBinaryOperator;
+import uk.gov.gchq.koryphe.binaryoperator.BatchBinaryOperator;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
 import uk.gov.gchq.koryphe.tuple.TupleOutputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * A <code>TupleAdaptedBinaryOperator</code> adapts a {@link BinaryOperator} so it can be applied to selected
@@ -55,6 +61,68 @@ public class TupleAdaptedBinaryOperator<R, OT> extends AdaptedBinaryOperator<Tup
         setSelection(selection);
     }
 
+    /**
+     * Apply the BinaryOperator to the selected fields. If a single field of two
+     * {@link PrimitiveTuple}s is selected and the binary operator is a {@link LongBinaryOperator}
+     * or {@link DoubleBinaryOperator}, the values are combined without being boxed.
+     *
+     * @param state Value to fold into
+     * @param input New input to fold in
+     * @return New state
+     */
+    @Override
+    public Tuple<R> apply(final Tuple<R> state, final Tuple<R> input) {
+        if (state instanceof PrimitiveTuple && input instanceof PrimitiveTuple) {
+            final R reference = getInputAdapter().singleSelection();
+            if (reference instanceof Integer && reference.equals(getOutputAdapter().singleProjection())
+                    && (Integer) reference < ((PrimitiveTuple) state).size()
+                    && (Integer) reference < ((PrimitiveTuple) input).size()
+                    && ((PrimitiveTuple) state).combine((Integer) reference, (PrimitiveTuple) input,
+                    binaryOperator instanceof LongBinaryOperator ? (LongBinaryOperator) binaryOperator : null,
+                    binaryOperator instanceof DoubleBinaryOperator ? (DoubleBinaryOperator) binaryOperator : null)) {
+                return state;
+            }
+        }
+
+        return super.apply(state, input);
+    }
+
+    /**
+     * Fold the selected rows of a {@link TupleBatch} into a state, in row order. If a single
+     * field in the batch schema is selected, its column is folded into the state's value in
+     * one loop, using the binary operator's own implementation if it is a {@link BatchBinaryOperator}.
+     * Otherwise each row is folded in turn.
+     *
+     * @param state the tuple to fold into.
+     * @param batch the batch to fold in.
+     * @return New state
+     */
+    public Tuple<R> applyBatch(final Tuple<R> state, final TupleBatch<R> batch) {
+        if (null == binaryOperator) {
+            throw new IllegalArgumentException("BinaryOperator cannot be null");
+        }
+        if (null == state) {
+            throw new IllegalArgumentException("State is required");
+        }
+
+        final int[] rows = batch.getSelection();
+        final int count = batch.getSelectedCount();
+        final R reference = getInputAdapter().singleSelection();
+        if (null != reference && reference.equals(getOutputAdapter().singleProjection())
+                && batch.getSchema().indexOf(reference) >= 0) {
+            final OT value = BatchBinaryOperator.of(binaryOperator)
+                    .applyColumn((OT) state.get(reference), batch.getColumn(reference), rows, count);
+            return getOutputAdapter().apply(state, value);
+        }
+
+        Tuple<R> result = state;
+        final TupleBatch<R>.Row row = batch.row();
+        for (int i = 0; i < count; i++) {
+            result = apply(result, row.moveTo(rows[i]));
+        }
+        return result;
+    }
+
     public R[] getSelection() {
         return getInputAdapter().getSelection();
     }
@@ -64,6 +132,28 @@ public class TupleAdaptedBinaryOperator<R, OT> extends AdaptedBinaryOperator<Tup
         getOutputAdapter().setProjection(selection);
     }
 
+    /**
+     * Bind the selection to a {@link TupleSchema}.
+     *
+     * @param schema the schema to bind to.
+     * @see TupleInputAdapter#bind(TupleSchema)
+     * @see TupleOutputAdapter#bind(TupleSchema)
+     */
+    public void bind(final TupleSchema<R> schema) {
+        getInputAdapter().bind(schema);
+        getOutputAdapter().bind(schema);
+    }
+
+    /**
+     * Reuse the views of a multi-field selection.
+     *
+     * @param viewReuse how views are reused.
+     * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+     */
+    public void reuseViews(final TupleInputAdapter.ViewReuse viewReuse) {
+        getInputAdapter().reuseViews(viewReuse);
+    }
+
     @JsonIgnore
     @Override
     public TupleInputAdapter<R, OT> getInputAdapter() {
@@ -21,9 +21,15 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorComposite;
+import uk.gov.gchq.koryphe.tuple.MemoTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
@@ -35,11 +41,76 @@ import java.util.function.BinaryOperator;
 @Since("1.0.0")
 @Summary("Applies multiple binary operators, adapting the input/outputs")
 public class TupleAdaptedBinaryOperatorComposite<R> extends BinaryOperatorComposite<Tuple<R>, TupleAdaptedBinaryOperator<R, ? extends Object>> {
+    private volatile Set<R> sharedReferences = Collections.emptySet();
+
     @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
     public List<TupleAdaptedBinaryOperator<R, ? extends Object>> getComponents() {
         return super.getComponents();
     }
 
+    /**
+     * Bind every component binary operator to a {@link TupleSchema}.
+     *
+     * @param schema the schema to bind to.
+     */
+    public void bind(final TupleSchema<R> schema) {
+        for (final TupleAdaptedBinaryOperator<R, ? extends Object> component : getComponents()) {
+            component.bind(schema);
+        }
+    }
+
+    /**
+     * Reuse the views of every component binary operator's multi-field selection.
+     *
+     * @param viewReuse how views are reused.
+     * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+     */
+    public void reuseViews(final TupleInputAdapter.ViewReuse viewReuse) {
+        for (final TupleAdaptedBinaryOperator<R, ? extends Object> component : getComponents()) {
+            component.reuseViews(viewReuse);
+        }
+    }
+
+    /**
+     * Apply the components in turn. If selections are shared, fields selected by more
+     * than one component are only read from the input once.
+     *
+     * @param state Value to fold into
+     * @param input New input to fold in
+     * @return New state
+     * @see #shareSelections(boolean)
+     */
+    @Override
+    public Tuple<R> apply(final Tuple<R> state, final Tuple<R> input) {
+        final Set<R> shared = sharedReferences;
+        if (null == input || shared.isEmpty()) {
+            return super.apply(state, input);
+        }
+        return super.apply(state, new MemoTuple<>(input, shared));
+    }
+
+    /**
+     * Share the values of fields selected by more than one component, so each of them is
+     * read from the input once per record rather than once per component. This is worthwhile
+     * when reading a field is costly, for example from a {@link uk.gov.gchq.koryphe.tuple.ReflectiveTuple},
+     * and can be slower for tuples backed by arrays. The shared fields are found when this is
+     * called, so call it once the components are configured.
+     *
+     * @param share true to share the values of fields selected by more than one component.
+     * @see MemoTuple
+     */
+    public void shareSelections(final boolean share) {
+        if (share && null != getComponents()) {
+            final List<R[]> selections = new ArrayList<>(getComponents().size());
+            for (final TupleAdaptedBinaryOperator<R, ? extends Object> component : getComponents()) {
+                selections.add(component.getSelection());
+            }
+            sharedReferences = MemoTuple.sharedReferences(selections);
+        } else {
+            sharedReferences = Collections.emptySet();
+        }
+    }
+
     public static class Builder<R> {
         private final TupleAdaptedBinaryOperatorComposite<R> binaryOperator;
 
@@ -22,9 +22,12 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.AdaptedFunction;
+import uk.gov.gchq.koryphe.function.BatchFunction;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
 import uk.gov.gchq.koryphe.tuple.TupleOutputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 
 import java.util.function.Function;
 
@@ -61,6 +64,33 @@ public class TupleAdaptedFunction<R, FI, FO> extends AdaptedFunction<Tuple<R>, F
         setProjection(projection);
     }
 
+    /**
+     * Apply the Function to the selected rows of a {@link TupleBatch}, projecting the
+     * outputs back into the batch. If a single field is selected and a single field is
+     * projected, both in the batch schema, the function is applied to the selected column
+     * in one loop, using the function's own implementation if it is a {@link BatchFunction}.
+     * Otherwise each row is transformed in turn.
+     *
+     * @param batch the batch to transform.
+     * @return the transformed batch.
+     */
+    public TupleBatch<R> applyBatch(final TupleBatch<R> batch) {
+        final int[] rows = batch.getSelection();
+        final int count = batch.getSelectedCount();
+        final R reference = getInputAdapter().singleSelection();
+        final R projection = getOutputAdapter().singleProjection();
+        if (null != reference && null != projection
+                && batch.getSchema().indexOf(reference) >= 0 && batch.getSchema().indexOf(projection) >= 0) {
+            BatchFunction.of(function).applyColumn(batch.getColumn(reference), batch.getColumn(projection), rows, count);
+        } else {
+            final TupleBatch<R>.Row row = batch.row();
+            for (int i = 0; i < count; i++) {
+                apply(row.moveTo(rows[i]));
+            }
+        }
+        return batch;
+    }
+
     public R[] getSelection() {
         return getInputAdapter().getSelection();
     }
@@ -77,6 +107,28 @@ public class TupleAdaptedFunction<R, FI, FO> extends AdaptedFunction<Tuple<R>, F
         getOutputAdapter().setProjection(fields);
     }
 
+    /**
+     * Bind the selection and projection to a {@link TupleSchema}.
+     *
+     * @param schema the schema to bind to.
+     * @see TupleInputAdapter#bind(TupleSchema)
+     * @see TupleOutputAdapter#bind(TupleSchema)
+     */
+    public void bind(final TupleSchema<R> schema) {
+        getInputAdapter().bind(schema);
+        getOutputAdapter().bind(schema);
+    }
+
+    /**
+     * Reuse the views of a multi-field selection.
+     *
+     * @param viewReuse how views are reused.
+     * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+     */
+    public void reuseViews(final TupleInputAdapter.ViewReuse viewReuse) {
+        getInputAdapter().reuseViews(viewReuse);
+    }
+
     @JsonIgnore
     @Override
     public TupleInputAdapter<R, FI> getInputAdapter() {
@@ -22,8 +22,14 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.AdaptedPredicate;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
+import uk.gov.gchq.koryphe.predicate.PrimitivePredicate;
+import uk.gov.gchq.koryphe.tuple.PrimitiveArrayTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 
 import java.util.function.Predicate;
 
@@ -52,6 +58,66 @@ public class TupleAdaptedPredicate<R, PI> extends AdaptedPredicate<Tuple<R>, PI>
         setSelection(selection);
     }
 
+    /**
+     * Apply the Predicate to the selected fields. If a single field of a {@link PrimitiveTuple}
+     * or an int, long or double {@link PrimitiveArrayTuple} is selected and the predicate is a
+     * {@link PrimitivePredicate}, the value is passed to the predicate without being boxed.
+     *
+     * @param input Input to adapt and apply predicate to
+     * @return Predicate result
+     */
+    @Override
+    public boolean test(final Tuple<R> input) {
+        if (predicate instanceof PrimitivePredicate) {
+            if (input instanceof PrimitiveTuple) {
+                final R reference = getInputAdapter().singleSelection();
+                if (reference instanceof Integer && (Integer) reference < ((PrimitiveTuple) input).size()) {
+                    return ((PrimitiveTuple) input).test((Integer) reference, (PrimitivePredicate) predicate);
+                }
+            } else if (input instanceof PrimitiveArrayTuple && ((PrimitiveArrayTuple) input).isTestableWithoutBoxing()) {
+                final R reference = getInputAdapter().singleSelection();
+                if (reference instanceof Integer && (Integer) reference < ((PrimitiveArrayTuple) input).size()) {
+                    return ((PrimitiveArrayTuple) input).test((Integer) reference, (PrimitivePredicate) predicate);
+                }
+            }
+        }
+
+        return super.test(input);
+    }
+
+    /**
+     * Apply the Predicate to the selected rows of a {@link TupleBatch}, narrowing the
+     * selection of the batch to the rows that pass. If a single field in the batch schema
+     * is selected, the predicate is applied to its column in one loop, using the predicate's
+     * own implementation if it is a {@link BatchPredicate}. Otherwise each row is tested in turn.
+     *
+     * @param batch the batch to test.
+     * @return the number of rows that passed.
+     */
+    public int testBatch(final TupleBatch<R> batch) {
+        if (null == predicate) {
+            return batch.getSelectedCount();
+        }
+
+        final int[] rows = batch.getSelection();
+        final int count = batch.getSelectedCount();
+        final R reference = getInputAdapter().singleSelection();
+        int passed = 0;
+        if (null != reference && batch.getSchema().indexOf(reference) >= 0) {
+            passed = BatchPredicate.of(predicate).testColumn(batch.getColumn(reference), rows, count, rows);
+        } else {
+            final TupleBatch<R>.Row row = batch.row();
+            for (int i = 0; i < count; i++) {
+                if (test(row.moveTo(rows[i]))) {
+                    rows[passed++] = rows[i];
+                }
+            }
+        }
+
+        batch.setSelection(rows, passed);
+        return passed;
+    }
+
     public R[] getSelection() {
         return getInputAdapter().getSelection();
     }
@@ -60,6 +126,26 @@ public class TupleAdaptedPredicate<R, PI> extends AdaptedPredicate<Tuple<R>, PI>
         getInputAdapter().setSelection(selection);
     }
 
+    /**
+     * Bind the selection to a {@link TupleSchema}.
+     *
+     * @param schema the schema to bind to.
+     * @see TupleInputAdapter#bind(TupleSchema)
+     */
+    public void bind(final TupleSchema<R> schema) {
+        getInputAdapter().bind(schema);
+    }
+
+    /**
+     * Reuse the views of a multi-field selection.
+     *
+     * @param viewReuse how views are reused.
+     * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+     */
+    public void reuseViews(final TupleInputAdapter.ViewReuse viewReuse) {
+        getInputAdapter().reuseViews(viewReuse);
+    }
+
     @JsonIgnore
     @Override
     public TupleInputAdapter<R, PI> getInputAdapter() {
@@ -21,9 +21,16 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.PredicateComposite;
+import uk.gov.gchq.koryphe.tuple.MemoTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
+import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -35,11 +42,97 @@ import java.util.function.Predicate;
 @Since("1.0.0")
 @Summary("Applies multiple predicates and adapts the input")
 public class TupleAdaptedPredicateComposite<R> extends PredicateComposite<Tuple<R>, TupleAdaptedPredicate<R, ? extends Object>> {
+    private volatile Set<R> sharedReferences = Collections.emptySet();
+
     @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
     public List<TupleAdaptedPredicate<R, ? extends Object>> getComponents() {
         return super.getComponents();
     }
 
+    /**
+     * Bind every component predicate to a {@link TupleSchema}.
+     *
+     * @param schema the schema to bind to.
+     */
+    public void bind(final TupleSchema<R> schema) {
+        for (final TupleAdaptedPredicate<R, ? extends Object> component : getComponents()) {
+            component.bind(schema);
+        }
+    }
+
+    /**
+     * Reuse the views of every component predicate's multi-field selection.
+     *
+     * @param viewReuse how views are reused.
+     * @see TupleInputAdapter#reuseViews(TupleInputAdapter.ViewReuse)
+     */
+    public void reuseViews(final TupleInputAdapter.ViewReuse viewReuse) {
+        for (final TupleAdaptedPredicate<R, ? extends Object> component : getComponents()) {
+            component.reuseViews(viewReuse);
+        }
+    }
+
+    /**
+     * Test the components in turn. If selections are shared, fields selected by more
+     * than one component are only read from the input once.
+     *
+     * @param input Input value
+     * @return True if all components pass, otherwise false.
+     * @see #shareSelections(boolean)
+     */
+    @Override
+    public boolean test(final Tuple<R> input) {
+        final Set<R> shared = sharedReferences;
+        if (null == input || shared.isEmpty()) {
+            return super.test(input);
+        }
+        return super.test(new MemoTuple<>(input, shared));
+    }
+
+    /**
+     * Test the selected rows of a {@link TupleBatch}, narrowing the selection of the batch
+     * to the rows that pass every component. Each component is only applied to the rows
+     * that passed the components before it.
+     *
+     * @param batch the batch to test.
+     * @return the number of rows that passed.
+     * @see TupleAdaptedPredicate#testBatch(TupleBatch)
+     */
+    public int testBatch(final TupleBatch<R> batch) {
+        int passed = batch.getSelectedCount();
+        if (null != getComponents()) {
+            for (final TupleAdaptedPredicate<R, ? extends Object> component : getComponents()) {
+                if (0 == passed) {
+                    break;
+                }
+                passed = component.testBatch(batch);
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Share the values of fields selected by more than one component, so each of them is
+     * read from the input once per record rather than once per component. This is worthwhile
+     * when reading a field is costly, for example from a {@link uk.gov.gchq.koryphe.tuple.ReflectiveTuple},
+     * and can be slower for tuples backed by arrays. The shared fields are found when this is
+     * called, so call it once the components are configured.
+     *
+     * @param share true to share the values of fields selected by more than one component.
+     * @see MemoTuple
+     */
+    public void shareSelections(final boolean share) {
+        if (share && null != getComponents()) {
+            final List<R[]> selections = new ArrayList<>(getComponents().size());
+            for (final TupleAdaptedPredicate<R, ? extends Object> component : getComponents()) {
+                selections.add(component.getSelection());
+            }
+            sharedReferences = MemoTuple.sharedReferences(selections);
+        } else {
+            sharedReferences = Collections.emptySet();
+        }
+    }
+
     public static class Builder<R> {
         private final TupleAdaptedPredicateComposite<R> composite;
 
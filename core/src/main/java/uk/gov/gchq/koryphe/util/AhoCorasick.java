@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An <code>AhoCorasick</code> automaton finds which of a set of strings, the needles,
+ * occur in a piece of text with a single pass over the text, however many needles there are.
+ * <p>
+ * The automaton cannot be modified once built and can be used by many threads at once.
+ * Matching may ignore case, in which case characters are compared in the same way as
+ * {@link String#equalsIgnoreCase(String)}.
+ * </p>
+ */
+public final class AhoCorasick {
+    private static final int NONE = -1;
+
+    private final List<String> needles;
+    private final boolean ignoreCase;
+
+    // The transitions between states, keyed on the state and character and held in an
+    // open addressing table. A key of zero marks an empty slot, so keys are stored plus one.
+    private final long[] edgeKeys;
+    private final int[] edgeTargets;
+    private final int edgeMask;
+
+    // The state to move to when there is no transition for a character.
+    private final int[] failures;
+
+    // The needles that end at each state, including those that end at its failure states.
+    private final int[][] outputs;
+
+    /**
+     * Build an automaton that matches case exactly.
+     *
+     * @param needles the strings to search for.
+     */
+    public AhoCorasick(final List<String> needles) {
+        this(needles, false);
+    }
+
+    /**
+     * Build an automaton.
+     *
+     * @param needles    the strings to search for, which are identified by their index in the list.
+     * @param ignoreCase true if the case of characters should be ignored.
+     */
+    public AhoCorasick(final List<String> needles, final boolean ignoreCase) {
+        requireNonNull(needles, "needles are required");
+        this.needles = Collections.unmodifiableList(new ArrayList<>(needles));
+        this.ignoreCase = ignoreCase;
+
+        // Build the trie
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new HashMap<>());
+        ends.add(new ArrayList<>());
+        for (int i = 0; i < this.needles.size(); i++) {
+            final String needle = requireNonNull(this.needles.get(i), "needles must not be null");
+            int state = 0;
+            for (int j = 0; j < needle.length(); j++) {
+                final char c = fold(needle.charAt(j));
+                Integer next = trie.get(state).get(c);
+                if (null == next) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new HashMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ends.get(state).add(i);
+        }
+
+        int edgeCount = 0;
+        for (final Map<Character, Integer> children : trie) {
+            edgeCount += children.size();
+        }
+        final int capacity = Integer.highestOneBit(Math.max(2, edgeCount) * 4 - 1);
+        edgeKeys = new long[capacity];
+        edgeTargets = new int[capacity];
+        edgeMask = capacity - 1;
+        for (int state = 0; state < trie.size(); state++) {
+            for (final Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                final long key = key(state, edge.getKey());
+                final int slot = slot(key);
+                edgeKeys[slot] = key;
+                edgeTargets[slot] = edge.getValue();
+            }
+        }
+
+        // Link each state to the state for the longest proper suffix of it in the trie,
+        // visiting the states breadth first so shorter suffixes are linked first
+        failures = new int[trie.size()];
+        outputs = new int[trie.size()][];
+        outputs[0] = toArray(ends.get(0), null);
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (final int child : trie.get(0).values()) {
+            failures[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            outputs[state] = toArray(ends.get(state), outputs[failures[state]]);
+            for (final Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                final int child = edge.getValue();
+                int failure = failures[state];
+                while (NONE == transition(failure, edge.getKey()) && 0 != failure) {
+                    failure = failures[failure];
+                }
+                final int target = transition(failure, edge.getKey());
+                failures[child] = NONE == target ? 0 : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return the needles, in the order they were given.
+     */
+    public List<String> getNeedles() {
+        return needles;
+    }
+
+    /**
+     * @return true if the case of characters is ignored.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * Check whether any of the needles occur in the text, stopping at the first one found.
+     *
+     * @param text the text to search.
+     * @return true if any of the needles occur in the text.
+     */
+    public boolean containsAny(final CharSequence text) {
+        if (null != outputs[0]) {
+            return true;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (null != outputs[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the needles that occur in the text.
+     *
+     * @param text the text to search.
+     * @return the indices of the needles that occur in the text.
+     */
+    public BitSet findAll(final CharSequence text) {
+        final BitSet found = new BitSet(needles.size());
+        addAll(found, outputs[0]);
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            addAll(found, outputs[state]);
+        }
+        return found;
+    }
+
+    @Override
+    public String toString() {
+        return "AhoCorasick[needles=" + needles + ", ignoreCase=" + ignoreCase + "]";
+    }
+
+    private int next(final int state, final char c) {
+        final char folded = fold(c);
+        int current = state;
+        while (true) {
+            final int target = transition(current, folded);
+            if (NONE != target) {
+                return target;
+            }
+            if (0 == current) {
+                return 0;
+            }
+            current = failures[current];
+        }
+    }
+
+    private int transition(final int state, final char c) {
+        final int slot = slot(key(state, c));
+        return 0L == edgeKeys[slot] ? NONE : edgeTargets[slot];
+    }
+
+    // The slot holding the key, or the empty slot it would be put in.
+    private int slot(final long key) {
+        int index = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & edgeMask;
+        while (0L != edgeKeys[index] && key != edgeKeys[index]) {
+            index = (index + 1) & edgeMask;
+        }
+        return index;
+    }
+
+    private char fold(final char c) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    private static long key(final int state, final char c) {
+        return (((long) state << 16) | c) + 1;
+    }
+
+    private static void addAll(final BitSet found, final int[] indices) {
+        if (null != indices) {
+            for (final int index : indices) {
+                found.set(index);
+            }
+        }
+    }
+
+    // The needles ending at a state followed by those of its failure state, or null if there are none.
+    private static int[] toArray(final List<Integer> ends, final int[] inherited) {
+        if (ends.isEmpty()) {
+            return inherited;
+        }
+
+        final int inheritedLength = null != inherited ? inherited.length : 0;
+        final int[] array = Arrays.copyOf(ends.stream().mapToInt(Integer::intValue).toArray(), ends.size() + inheritedLength);
+        if (null != inherited) {
+            System.arraycopy(inherited, 0, array, ends.size(), inheritedLength);
+        }
+        return array;
+    }
+}
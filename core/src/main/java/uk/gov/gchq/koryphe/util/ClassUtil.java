@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class utilities. Contains a memoised version of {@link Class#isAssignableFrom(Class)}.
+ * <p>
+ * The result of checking a class against a target type is remembered alongside the class,
+ * so predicates that check the type of every record, and signatures that are checked each
+ * time a pipeline is validated, only walk the class hierarchy once for each pair of classes.
+ * The results are held in a {@link ClassValue} for the class being checked, and are only
+ * remembered when the target type is visible from that class, see {@link #isVisibleFrom(Class, Class)},
+ * so they do not stop a class from being unloaded once its class loader is no longer used.
+ * </p>
+ */
+public final class ClassUtil {
+    /**
+     * The maximum number of target types remembered for each class. Checks against further
+     * target types are still correct, but are not remembered.
+     */
+    public static final int MAX_TARGETS_PER_CLASS = 64;
+
+    private static final ClassValue<ConcurrentMap<Class<?>, Boolean>> ASSIGNABLE_TO = new ClassValue<ConcurrentMap<Class<?>, Boolean>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Boolean> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ClassUtil() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * Checks whether a class is the same as, or a subtype of, a target type, in the same way as
+     * {@link Class#isAssignableFrom(Class)}. The results are cached.
+     *
+     * @param target    the target type.
+     * @param candidate the class to check.
+     * @return true if instances of the candidate class can be assigned to the target type.
+     */
+    public static boolean isAssignableFrom(final Class<?> target, final Class<?> candidate) {
+        if (target == candidate) {
+            return true;
+        }
+
+        final ConcurrentMap<Class<?>, Boolean> targets = ASSIGNABLE_TO.get(candidate);
+        final Boolean assignable = targets.get(target);
+        if (null != assignable) {
+            return assignable;
+        }
+
+        final boolean result = target.isAssignableFrom(candidate);
+        if (targets.size() < MAX_TARGETS_PER_CLASS && isVisibleFrom(candidate, target)) {
+            targets.putIfAbsent(target, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a class is loaded by the class loader of another class, or by one of
+     * that loader's parents. If so, the other class can refer to the class without keeping
+     * an otherwise unused class loader from being unloaded.
+     *
+     * @param owner the class that would refer to the class.
+     * @param clazz the class to check.
+     * @return true if the class is visible from the owner.
+     */
+    public static boolean isVisibleFrom(final Class<?> owner, final Class<?> clazz) {
+        final ClassLoader classLoader = clazz.getClassLoader();
+        if (null == classLoader) {
+            return true;
+        }
+        for (ClassLoader loader = owner.getClassLoader(); null != loader; loader = loader.getParent()) {
+            if (classLoader == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // True if the result of checking the candidate against the target is remembered.
+    static boolean isCached(final Class<?> target, final Class<?> candidate) {
+        return ASSIGNABLE_TO.get(candidate).containsKey(target);
+    }
+
+    /**
+     * Checks whether an object is an instance of a target type, in the same way as
+     * {@link Class#isInstance(Object)}. The results are cached for the class of the object.
+     *
+     * @param target the target type.
+     * @param obj    the object to check.
+     * @return true if the object is not null and can be cast to the target type.
+     */
+    public static boolean isInstance(final Class<?> target, final Object obj) {
+        return null != obj && isAssignableFrom(target, obj.getClass());
+    }
+}
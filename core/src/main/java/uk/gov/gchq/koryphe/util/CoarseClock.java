@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A <code>CoarseClock</code> is a {@link Clock} that reads the system time at a fixed interval,
+ * the resolution, rather than every time it is asked for the time. Reading a
+ * <code>CoarseClock</code> is just a read of a volatile field, so it suits predicates that
+ * need the current time for every record, such as {@link uk.gov.gchq.koryphe.impl.predicate.AgeOff}.
+ * The time it gives may be behind the system time by up to the resolution.
+ * <p>
+ * Resolutions are limited to {@link #RESOLUTIONS_MILLIS}, and a requested resolution is
+ * rounded down to the nearest of them, so the clock is never coarser than requested.
+ * Clocks with the same resolution share a single tick, and all ticks are updated by one
+ * daemon thread, which is started when the first <code>CoarseClock</code> is created.
+ * So however many resolutions are requested, there are never more ticks than resolutions.
+ * </p>
+ */
+public final class CoarseClock extends Clock {
+    /**
+     * The resolutions a clock can have, in milliseconds.
+     */
+    public static final List<Long> RESOLUTIONS_MILLIS = Collections.unmodifiableList(
+            Arrays.asList(1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L));
+
+    private static final ConcurrentMap<Long, Tick> TICKS = new ConcurrentHashMap<>();
+
+    private final Tick tick;
+    private final ZoneId zone;
+
+    private CoarseClock(final Tick tick, final ZoneId zone) {
+        this.tick = tick;
+        this.zone = zone;
+    }
+
+    /**
+     * Get a clock, in the UTC time zone, that reads the system time at the given interval,
+     * rounded down to the nearest of {@link #RESOLUTIONS_MILLIS}.
+     *
+     * @param resolutionMillis the longest interval between reads of the system time, in milliseconds.
+     * @return the clock.
+     */
+    public static CoarseClock ofMillis(final long resolutionMillis) {
+        if (resolutionMillis <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive, but was " + resolutionMillis);
+        }
+        long resolution = RESOLUTIONS_MILLIS.get(0);
+        for (final long supported : RESOLUTIONS_MILLIS) {
+            if (supported <= resolutionMillis) {
+                resolution = supported;
+            }
+        }
+        return new CoarseClock(TICKS.computeIfAbsent(resolution, Tick::new), ZoneOffset.UTC);
+    }
+
+    /**
+     * @return the interval between reads of the system time, in milliseconds.
+     */
+    public long getResolutionMillis() {
+        return tick.resolutionMillis;
+    }
+
+    @Override
+    public long millis() {
+        return tick.millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(tick.millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(tick, zone);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (null == obj || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+
+        final CoarseClock that = (CoarseClock) obj;
+        return tick == that.tick && zone.equals(that.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tick.resolutionMillis, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + tick.resolutionMillis + "ms, " + zone + "]";
+    }
+
+    private static final class Tick {
+        private final long resolutionMillis;
+        private volatile long millis = System.currentTimeMillis();
+
+        private Tick(final long resolutionMillis) {
+            this.resolutionMillis = resolutionMillis;
+            Ticker.EXECUTOR.scheduleAtFixedRate(() -> millis = System.currentTimeMillis(),
+                    resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Holds the thread that updates the ticks, so it is only started when first needed.
+    private static final class Ticker {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "koryphe-coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
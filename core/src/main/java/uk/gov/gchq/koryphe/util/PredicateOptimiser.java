@@ -0,0 +1,582 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.koryphe.impl.predicate.And;
+import uk.gov.gchq.koryphe.impl.predicate.If;
+import uk.gov.gchq.koryphe.impl.predicate.IsA;
+import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
+import uk.gov.gchq.koryphe.impl.predicate.IsIn;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.Not;
+import uk.gov.gchq.koryphe.impl.predicate.Or;
+import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
+import uk.gov.gchq.koryphe.predicate.PredicateComposite;
+import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * A utility class for rewriting a tree of {@link And}, {@link Or}, {@link Not}, {@link If}
+ * and {@link PredicateComposite} predicates into an equivalent but cheaper tree. The
+ * rewrite:
+ * </p>
+ * <ul>
+ * <li>flattens an {@link And} or {@link PredicateComposite} nested in another, and an
+ * {@link Or} nested in another {@link Or}</li>
+ * <li>folds constant branches: an empty {@link And} is always true and an empty {@link Or}
+ * is always false, so these are removed from or short-circuit their parents. A
+ * tuple-adapted predicate of a constant is not folded, as selecting its fields can fail</li>
+ * <li>removes a double {@link Not} and resolves an {@link If} with a constant condition</li>
+ * <li>removes duplicate child predicates</li>
+ * <li>replaces a composite with a single child by that child</li>
+ * <li>merges tuple-adapted predicates with the same selection into one, so the
+ * selection is only made once</li>
+ * <li>fuses {@link IsMoreThan}, {@link IsLessThan} and {@link InRange} predicates
+ * in an {@link And} into a single interval, which is always false if the bounds
+ * contradict each other</li>
+ * <li>fuses {@link IsEqual} and {@link IsIn} predicates in an {@link Or} into a
+ * single {@link IsIn}</li>
+ * </ul>
+ * <p>
+ * The input tree is not modified. Predicates other than those above, including
+ * subclasses of them, are left as they are. The rewrite assumes predicates have no
+ * side effects, so it should not be used on predicates that do. Fused comparisons
+ * may return false for inputs that could not be compared, where the original tree
+ * would have thrown an exception. Schema bindings and
+ * view reuse on the tuple-adapted predicates in the tree are not copied, so these
+ * should be configured on the optimised tree.
+ * </p>
+ */
+public final class PredicateOptimiser {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PredicateOptimiser.class);
+    private static final String INDENT = "  ";
+
+    private PredicateOptimiser() {
+    }
+
+    /**
+     * Rewrite a predicate tree into an equivalent but cheaper tree.
+     *
+     * @param predicate the predicate to optimise.
+     * @param <I>       Type of input to be validated
+     * @return the optimised predicate, which may be the original predicate.
+     */
+    public static <I> Predicate<I> optimise(final Predicate<I> predicate) {
+        final Predicate<I> optimised = (Predicate<I>) rewrite(predicate);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Optimised predicate{}", explain(predicate, optimised));
+        }
+        return optimised;
+    }
+
+    /**
+     * Optimise a predicate and describe the trees before and after the rewrite.
+     *
+     * @param predicate the predicate to optimise.
+     * @return the before and after trees, as returned by {@link #dump(Predicate)}.
+     */
+    public static String explain(final Predicate<?> predicate) {
+        return explain(predicate, rewrite(predicate));
+    }
+
+    /**
+     * Describe a predicate tree, with one predicate per line and each child
+     * indented under its parent.
+     *
+     * @param predicate the predicate to describe.
+     * @return the description.
+     */
+    public static String dump(final Predicate<?> predicate) {
+        final StringBuilder builder = new StringBuilder();
+        dump(predicate, "", builder);
+        return builder.toString();
+    }
+
+    private static String explain(final Predicate<?> before, final Predicate<?> after) {
+        return String.format("%nBefore:%n%sAfter:%n%s", dump(before), dump(after));
+    }
+
+    private static Predicate rewrite(final Predicate predicate) {
+        if (null == predicate) {
+            return null;
+        }
+
+        final Class<?> type = predicate.getClass();
+        if (And.class == type || PredicateComposite.class == type) {
+            return rewriteAnd((PredicateComposite) predicate);
+        }
+        if (Or.class == type) {
+            return rewriteOr((Or) predicate);
+        }
+        if (Not.class == type) {
+            return rewriteNot((Not) predicate);
+        }
+        if (If.class == type) {
+            return rewriteIf((If) predicate);
+        }
+        if (TupleAdaptedPredicateComposite.class == type) {
+            return rewriteTupleAdaptedComposite((TupleAdaptedPredicateComposite) predicate);
+        }
+        if (isCopyableTupleAdapted(predicate)) {
+            // Selecting fields can fail, e.g. for a missing field of a ReflectiveTuple,
+            // so a constant nested predicate does not make the whole predicate constant.
+            return rewriteTupleAdapted((TupleAdaptedPredicate) predicate);
+        }
+        return predicate;
+    }
+
+    private static Predicate rewriteAnd(final PredicateComposite<?, ?> and) {
+        List<Predicate> components = new ArrayList<>();
+        if (null != and.getComponents()) {
+            for (final Predicate component : mergeSelections(and.getComponents(), true)) {
+                final Predicate rewritten = rewrite(component);
+                if (isFalse(rewritten)) {
+                    return alwaysFalse();
+                }
+                if (isAndComposite(rewritten)) {
+                    addAll(components, ((PredicateComposite<?, ?>) rewritten).getComponents());
+                } else if (!isTrue(rewritten)) {
+                    addDistinct(components, rewritten);
+                }
+            }
+        }
+
+        components = fuseRanges(components);
+        if (null == components) {
+            return alwaysFalse();
+        }
+        if (components.isEmpty()) {
+            return alwaysTrue();
+        }
+        if (1 == components.size() && canUnwrap(components.get(0))) {
+            return components.get(0);
+        }
+        return And.class == and.getClass() ? new And<>(components) : new PredicateComposite(components);
+    }
+
+    private static Predicate rewriteOr(final Or<?> or) {
+        List<Predicate> components = new ArrayList<>();
+        if (null != or.getComponents()) {
+            for (final Predicate component : mergeSelections(or.getComponents(), false)) {
+                final Predicate rewritten = rewrite(component);
+                if (isTrue(rewritten)) {
+                    return alwaysTrue();
+                }
+                if (null != rewritten && Or.class == rewritten.getClass()) {
+                    addAll(components, ((Or<?>) rewritten).getComponents());
+                } else {
+                    addDistinct(components, rewritten);
+                }
+            }
+        }
+
+        components = fuseEqualities(components);
+        if (components.isEmpty()) {
+            return alwaysFalse();
+        }
+        if (1 == components.size() && canUnwrap(components.get(0))) {
+            return components.get(0);
+        }
+        return new Or<>(components);
+    }
+
+    private static Predicate rewriteNot(final Not<?> not) {
+        final Predicate rewritten = rewrite(not.getPredicate());
+        if (null == rewritten || isTrue(rewritten)) {
+            return alwaysFalse();
+        }
+        if (isFalse(rewritten)) {
+            return alwaysTrue();
+        }
+        if (Not.class == rewritten.getClass() && null != ((Not<?>) rewritten).getPredicate()) {
+            return ((Not<?>) rewritten).getPredicate();
+        }
+        return new Not<>(rewritten);
+    }
+
+    private static Predicate rewriteIf(final If<?> ifPredicate) {
+        final Predicate then = orFalse(rewrite(ifPredicate.getThen()));
+        final Predicate otherwise = orFalse(rewrite(ifPredicate.getOtherwise()));
+        if (null != ifPredicate.getCondition()) {
+            return ifPredicate.getCondition() ? then : otherwise;
+        }
+
+        final Predicate condition = orFalse(rewrite(ifPredicate.getPredicate()));
+        if (isTrue(condition)) {
+            return then;
+        }
+        if (isFalse(condition)) {
+            return otherwise;
+        }
+        if (then.equals(otherwise)) {
+            return then;
+        }
+        return new If<>(condition, then, otherwise);
+    }
+
+    private static Predicate rewriteTupleAdaptedComposite(final TupleAdaptedPredicateComposite<?> composite) {
+        final List<TupleAdaptedPredicate> components = new ArrayList<>();
+        if (null != composite.getComponents()) {
+            for (final Predicate merged : mergeSelections(composite.getComponents(), true)) {
+                final TupleAdaptedPredicate component = (TupleAdaptedPredicate) merged;
+                final TupleAdaptedPredicate rewritten = isCopyableTupleAdapted(component) ? rewriteTupleAdapted(component) : component;
+                // Components with a constant predicate are kept, as selecting their fields can fail.
+                if (!components.contains(rewritten)) {
+                    components.add(rewritten);
+                }
+                if (isFalse(rewritten.getPredicate())) {
+                    break;
+                }
+            }
+        }
+
+        final TupleAdaptedPredicateComposite rtn = new TupleAdaptedPredicateComposite<>();
+        rtn.setComponents(components);
+        return rtn;
+    }
+
+    // Replaces tuple-adapted predicates that have the same selection with a single one, applying
+    // an And or Or of their predicates. The merged predicates are rewritten with the rest of the tree.
+    private static List<Predicate> mergeSelections(final List<? extends Predicate> components, final boolean isAnd) {
+        final List<Predicate> merged = new ArrayList<>(components.size());
+        final boolean[] done = new boolean[components.size()];
+        for (int i = 0; i < components.size(); i++) {
+            if (done[i]) {
+                continue;
+            }
+
+            final Predicate component = components.get(i);
+            if (null == component || !isCopyableTupleAdapted(component)) {
+                merged.add(component);
+                continue;
+            }
+
+            final TupleAdaptedPredicate first = (TupleAdaptedPredicate) component;
+            final List<Predicate> predicates = new ArrayList<>();
+            predicates.add(first.getPredicate());
+            for (int j = i + 1; j < components.size(); j++) {
+                final Predicate other = components.get(j);
+                if (null != other && first.getClass() == other.getClass()
+                        && Arrays.equals(first.getSelection(), ((TupleAdaptedPredicate) other).getSelection())) {
+                    predicates.add(((TupleAdaptedPredicate) other).getPredicate());
+                    done[j] = true;
+                }
+            }
+
+            if (1 == predicates.size()) {
+                merged.add(first);
+            } else {
+                final Predicate predicate = isAnd ? new And<>(predicates) : new Or<>(predicates);
+                merged.add(IntegerTupleAdaptedPredicate.class == first.getClass()
+                        ? new IntegerTupleAdaptedPredicate(predicate, (Integer[]) first.getSelection())
+                        : new TupleAdaptedPredicate<>(predicate, first.getSelection()));
+            }
+        }
+        return merged;
+    }
+
+    // Fuses the comparisons in an And into one interval, or returns null if they cannot all be true.
+    // IsMoreThan and IsLessThan reject inputs of other classes, so if any are fused an IsA check is kept.
+    private static List<Predicate> fuseRanges(final List<Predicate> components) {
+        Class<?> type = null;
+        int first = -1;
+        int count = 0;
+        boolean typeChecked = false;
+        for (int i = 0; i < components.size(); i++) {
+            final Predicate component = components.get(i);
+            final Comparable lower = lowerBound(component);
+            final Comparable upper = upperBound(component);
+            if (!isRange(component) || (null == lower && null == upper)) {
+                continue;
+            }
+            for (final Comparable bound : new Comparable[]{lower, upper}) {
+                if (null != bound) {
+                    if (null == type) {
+                        type = bound.getClass();
+                    } else if (type != bound.getClass()) {
+                        return components;
+                    }
+                }
+            }
+            if (first < 0) {
+                first = i;
+            }
+            count++;
+            typeChecked |= !(component instanceof InRange);
+        }
+
+        if (count < 2) {
+            return components;
+        }
+
+        int position = 0;
+        Comparable lower = null;
+        boolean lowerInclusive = true;
+        Comparable upper = null;
+        boolean upperInclusive = true;
+        final List<Predicate> fused = new ArrayList<>(components.size());
+        for (int i = 0; i < components.size(); i++) {
+            final Predicate component = components.get(i);
+            final Comparable componentLower = lowerBound(component);
+            final Comparable componentUpper = upperBound(component);
+            if (!isRange(component) || (null == componentLower && null == componentUpper)) {
+                fused.add(component);
+                continue;
+            }
+
+            if (null != componentLower) {
+                final boolean inclusive = isLowerInclusive(component);
+                final int compare = null == lower ? 1 : componentLower.compareTo(lower);
+                if (compare > 0 || (0 == compare && !inclusive)) {
+                    lower = componentLower;
+                    lowerInclusive = inclusive;
+                }
+            }
+            if (null != componentUpper) {
+                final boolean inclusive = isUpperInclusive(component);
+                final int compare = null == upper ? -1 : componentUpper.compareTo(upper);
+                if (compare < 0 || (0 == compare && !inclusive)) {
+                    upper = componentUpper;
+                    upperInclusive = inclusive;
+                }
+            }
+            if (i == first) {
+                position = fused.size();
+            }
+        }
+
+        if (null != lower && null != upper) {
+            final int compare = lower.compareTo(upper);
+            if (compare > 0 || (0 == compare && !(lowerInclusive && upperInclusive))) {
+                return null;
+            }
+        }
+
+        if (typeChecked && null == upper) {
+            fused.add(position, new IsMoreThan(lower, lowerInclusive));
+        } else if (typeChecked && null == lower) {
+            fused.add(position, new IsLessThan(upper, upperInclusive));
+        } else {
+            fused.add(position, new InRange.Builder()
+                    .start(lower)
+                    .end(upper)
+                    .startInclusive(lowerInclusive)
+                    .endInclusive(upperInclusive)
+                    .build());
+            if (typeChecked) {
+                fused.add(position, new IsA(type));
+            }
+        }
+        return fused;
+    }
+
+    private static boolean isRange(final Predicate predicate) {
+        return null != predicate
+                && (IsMoreThan.class == predicate.getClass() || IsLessThan.class == predicate.getClass() || InRange.class == predicate.getClass());
+    }
+
+    private static Comparable lowerBound(final Predicate predicate) {
+        if (null == predicate) {
+            return null;
+        }
+        if (IsMoreThan.class == predicate.getClass()) {
+            return ((IsMoreThan) predicate).getControlValue();
+        }
+        return InRange.class == predicate.getClass() ? ((InRange) predicate).getStart() : null;
+    }
+
+    private static Comparable upperBound(final Predicate predicate) {
+        if (null == predicate) {
+            return null;
+        }
+        if (IsLessThan.class == predicate.getClass()) {
+            return ((IsLessThan) predicate).getControlValue();
+        }
+        return InRange.class == predicate.getClass() ? ((InRange) predicate).getEnd() : null;
+    }
+
+    // A range bound with no inclusive flag is inclusive, as in RangeUtil.
+    private static boolean isLowerInclusive(final Predicate predicate) {
+        if (predicate instanceof IsMoreThan) {
+            return ((IsMoreThan) predicate).getOrEqualTo();
+        }
+        return !Boolean.FALSE.equals(((InRange) predicate).isStartInclusive());
+    }
+
+    private static boolean isUpperInclusive(final Predicate predicate) {
+        if (predicate instanceof IsLessThan) {
+            return ((IsLessThan) predicate).getOrEqualTo();
+        }
+        return !Boolean.FALSE.equals(((InRange) predicate).isEndInclusive());
+    }
+
+    // Fuses the equality checks in an Or into a single IsIn.
+    private static List<Predicate> fuseEqualities(final List<Predicate> components) {
+        int count = 0;
+        for (final Predicate component : components) {
+            if (isEquality(component)) {
+                count++;
+            }
+        }
+        if (count < 2) {
+            return components;
+        }
+
+        final Set<Object> values = new LinkedHashSet<>();
+        final List<Predicate> fused = new ArrayList<>(components.size());
+        int position = -1;
+        for (final Predicate component : components) {
+            if (!isEquality(component)) {
+                fused.add(component);
+                continue;
+            }
+            if (position < 0) {
+                position = fused.size();
+            }
+            if (component instanceof IsEqual) {
+                values.add(((IsEqual) component).getControlValue());
+            } else {
+                values.addAll(((IsIn) component).getAllowedValues());
+            }
+        }
+        fused.add(position, new IsIn(values));
+        return fused;
+    }
+
+    private static boolean isEquality(final Predicate predicate) {
+        return null != predicate
+                && (IsEqual.class == predicate.getClass()
+                || (IsIn.class == predicate.getClass() && null != ((IsIn) predicate).getAllowedValues()));
+    }
+
+    private static TupleAdaptedPredicate rewriteTupleAdapted(final TupleAdaptedPredicate predicate) {
+        final Predicate rewritten = rewrite(predicate.getPredicate());
+        if (IntegerTupleAdaptedPredicate.class == predicate.getClass()) {
+            return new IntegerTupleAdaptedPredicate(rewritten, (Integer[]) predicate.getSelection());
+        }
+        return new TupleAdaptedPredicate<>(rewritten, predicate.getSelection());
+    }
+
+    private static boolean isCopyableTupleAdapted(final Predicate predicate) {
+        return TupleAdaptedPredicate.class == predicate.getClass() || IntegerTupleAdaptedPredicate.class == predicate.getClass();
+    }
+
+    // And and Or fall back to testing the nested predicate of a TupleAdaptedPredicate given an
+    // unpacked Tuple1, so a TupleAdaptedPredicate is not lifted out of its parent.
+    private static boolean canUnwrap(final Predicate predicate) {
+        return null != predicate && !(predicate instanceof TupleAdaptedPredicate);
+    }
+
+    private static boolean isAndComposite(final Predicate predicate) {
+        return null != predicate && (And.class == predicate.getClass() || PredicateComposite.class == predicate.getClass());
+    }
+
+    private static boolean isTrue(final Predicate predicate) {
+        return isAndComposite(predicate) && isEmpty((PredicateComposite<?, ?>) predicate);
+    }
+
+    private static boolean isFalse(final Predicate predicate) {
+        return null != predicate && Or.class == predicate.getClass() && isEmpty((Or<?>) predicate);
+    }
+
+    private static boolean isEmpty(final PredicateComposite<?, ?> composite) {
+        return null == composite.getComponents() || composite.getComponents().isEmpty();
+    }
+
+    private static Predicate orFalse(final Predicate predicate) {
+        return null == predicate ? alwaysFalse() : predicate;
+    }
+
+    private static Predicate alwaysTrue() {
+        return new And<>();
+    }
+
+    private static Predicate alwaysFalse() {
+        return new Or<>();
+    }
+
+    private static void addAll(final List<Predicate> components, final List<? extends Predicate> toAdd) {
+        for (final Predicate predicate : toAdd) {
+            addDistinct(components, predicate);
+        }
+    }
+
+    private static void addDistinct(final List<Predicate> components, final Predicate predicate) {
+        if (!components.contains(predicate)) {
+            components.add(predicate);
+        }
+    }
+
+    private static void dump(final Predicate<?> predicate, final String indent, final StringBuilder builder) {
+        builder.append(indent);
+        if (null == predicate) {
+            builder.append("null").append(System.lineSeparator());
+            return;
+        }
+
+        final String childIndent = indent + INDENT;
+        if (isTrue(predicate)) {
+            builder.append(predicate.getClass().getSimpleName()).append(" (always true)").append(System.lineSeparator());
+        } else if (isFalse(predicate)) {
+            builder.append(predicate.getClass().getSimpleName()).append(" (always false)").append(System.lineSeparator());
+        } else if (predicate instanceof PredicateComposite) {
+            builder.append(predicate.getClass().getSimpleName()).append(System.lineSeparator());
+            if (null != ((PredicateComposite<?, ?>) predicate).getComponents()) {
+                for (final Predicate<?> component : ((PredicateComposite<?, ?>) predicate).getComponents()) {
+                    dump(component, childIndent, builder);
+                }
+            }
+        } else if (predicate instanceof TupleAdaptedPredicate) {
+            final TupleAdaptedPredicate<?, ?> tupleAdapted = (TupleAdaptedPredicate<?, ?>) predicate;
+            builder.append(predicate.getClass().getSimpleName())
+                    .append(" selection=").append(Arrays.toString(tupleAdapted.getSelection()))
+                    .append(System.lineSeparator());
+            dump(tupleAdapted.getPredicate(), childIndent, builder);
+        } else if (predicate instanceof Not) {
+            builder.append(predicate.getClass().getSimpleName()).append(System.lineSeparator());
+            dump(((Not<?>) predicate).getPredicate(), childIndent, builder);
+        } else if (predicate instanceof If) {
+            final If<?> ifPredicate = (If<?>) predicate;
+            builder.append(predicate.getClass().getSimpleName());
+            if (null != ifPredicate.getCondition()) {
+                builder.append(" condition=").append(ifPredicate.getCondition()).append(System.lineSeparator());
+            } else {
+                builder.append(System.lineSeparator()).append(childIndent).append("predicate:").append(System.lineSeparator());
+                dump(ifPredicate.getPredicate(), childIndent + INDENT, builder);
+            }
+            builder.append(childIndent).append("then:").append(System.lineSeparator());
+            dump(ifPredicate.getThen(), childIndent + INDENT, builder);
+            builder.append(childIndent).append("otherwise:").append(System.lineSeparator());
+            dump(ifPredicate.getOtherwise(), childIndent + INDENT, builder);
+        } else {
+            builder.append(predicate).append(System.lineSeparator());
+        }
+    }
+}
@@ -72,10 +72,157 @@ public final class RangeUtil {
 
         final boolean startMoreThanStart = isMoreThanStart(startValue, rangeStart, startInclusive);
         final boolean startLessThanEnd = isLessThanEnd(startValue, rangeEnd, endInclusive);
-        final boolean startInRange = startMoreThanStart && startLessThanEnd;
-
         final boolean endMoreThanStart = isMoreThanStart(endValue, rangeStart, startInclusive);
         final boolean endLessThanEnd = isLessThanEnd(endValue, rangeEnd, endInclusive);
+        return rangeMatches(startMoreThanStart, startLessThanEnd, endMoreThanStart, endLessThanEnd, isStartFullyContained, isEndFullyContained);
+    }
+
+    /**
+     * Checks a single value is within a provided range. This gives the same result as
+     * passing the value as both the start and end values, with half of the comparisons.
+     *
+     * @param value               the value to test
+     * @param rangeStart          the start of the defined allowed range
+     * @param rangeEnd            the start of the defined allowed range
+     * @param startInclusive      true if the start of the range is inclusive
+     * @param endInclusive        true if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @param <T>                 the type of the range
+     * @return true if the value is within the range.
+     */
+    public static <T extends Comparable<T>> boolean valueInRange(
+            final Comparable<T> value,
+            final T rangeStart, final T rangeEnd,
+            final Boolean startInclusive, final Boolean endInclusive,
+            final Boolean startFullyContained, final Boolean endFullyContained) {
+        if (null == value) {
+            return false;
+        }
+
+        final boolean isStartFullyContained = null == startFullyContained ? DEFAULT_FULLY_CONTAINED : startFullyContained;
+        final boolean isEndFullyContained = null == endFullyContained ? DEFAULT_FULLY_CONTAINED : endFullyContained;
+        return valueMatches(isMoreThanStart(value, rangeStart, startInclusive), isLessThanEnd(value, rangeEnd, endInclusive),
+                isStartFullyContained, isEndFullyContained);
+    }
+
+    /**
+     * Checks the start and end values within a provided range of longs. An unbounded
+     * start or end can be given as an inclusive {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+     *
+     * @param startValue          the start value to test
+     * @param endValue            the end value to test
+     * @param rangeStart          the start of the defined allowed range
+     * @param rangeEnd            the start of the defined allowed range
+     * @param startInclusive      true if the start of the range is inclusive
+     * @param endInclusive        true if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @return true if the start and end values are within the range.
+     */
+    public static boolean inLongRange(
+            final long startValue, final long endValue,
+            final long rangeStart, final long rangeEnd,
+            final boolean startInclusive, final boolean endInclusive,
+            final boolean startFullyContained, final boolean endFullyContained) {
+        return rangeMatches(
+                startInclusive ? startValue >= rangeStart : startValue > rangeStart,
+                endInclusive ? startValue <= rangeEnd : startValue < rangeEnd,
+                startInclusive ? endValue >= rangeStart : endValue > rangeStart,
+                endInclusive ? endValue <= rangeEnd : endValue < rangeEnd,
+                startFullyContained, endFullyContained);
+    }
+
+    /**
+     * Checks a single long value is within a provided range of longs. An unbounded
+     * start or end can be given as an inclusive {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+     *
+     * @param value               the value to test
+     * @param rangeStart          the start of the defined allowed range
+     * @param rangeEnd            the start of the defined allowed range
+     * @param startInclusive      true if the start of the range is inclusive
+     * @param endInclusive        true if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @return true if the value is within the range.
+     */
+    public static boolean valueInLongRange(
+            final long value,
+            final long rangeStart, final long rangeEnd,
+            final boolean startInclusive, final boolean endInclusive,
+            final boolean startFullyContained, final boolean endFullyContained) {
+        return valueMatches(
+                startInclusive ? value >= rangeStart : value > rangeStart,
+                endInclusive ? value <= rangeEnd : value < rangeEnd,
+                startFullyContained, endFullyContained);
+    }
+
+    /**
+     * Checks the start and end values within a provided range of doubles. Values are
+     * ordered as by {@link Double#compare(double, double)}, so NaN is greater than any other
+     * value, as with {@link Double#compareTo(Double)}. An unbounded start or end can be given
+     * as an inclusive {@link Double#NEGATIVE_INFINITY} or {@link Double#NaN}.
+     *
+     * @param startValue          the start value to test
+     * @param endValue            the end value to test
+     * @param rangeStart          the start of the defined allowed range
+     * @param rangeEnd            the start of the defined allowed range
+     * @param startInclusive      true if the start of the range is inclusive
+     * @param endInclusive        true if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @return true if the start and end values are within the range.
+     */
+    public static boolean inDoubleRange(
+            final double startValue, final double endValue,
+            final double rangeStart, final double rangeEnd,
+            final boolean startInclusive, final boolean endInclusive,
+            final boolean startFullyContained, final boolean endFullyContained) {
+        final int startToStart = Double.compare(startValue, rangeStart);
+        final int startToEnd = Double.compare(startValue, rangeEnd);
+        final int endToStart = Double.compare(endValue, rangeStart);
+        final int endToEnd = Double.compare(endValue, rangeEnd);
+        return rangeMatches(
+                startInclusive ? startToStart >= 0 : startToStart > 0,
+                endInclusive ? startToEnd <= 0 : startToEnd < 0,
+                startInclusive ? endToStart >= 0 : endToStart > 0,
+                endInclusive ? endToEnd <= 0 : endToEnd < 0,
+                startFullyContained, endFullyContained);
+    }
+
+    /**
+     * Checks a single double value is within a provided range of doubles. Values are
+     * ordered as by {@link Double#compare(double, double)}, so NaN is greater than any other
+     * value, as with {@link Double#compareTo(Double)}. An unbounded start or end can be given
+     * as an inclusive {@link Double#NEGATIVE_INFINITY} or {@link Double#NaN}.
+     *
+     * @param value               the value to test
+     * @param rangeStart          the start of the defined allowed range
+     * @param rangeEnd            the start of the defined allowed range
+     * @param startInclusive      true if the start of the range is inclusive
+     * @param endInclusive        true if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @return true if the value is within the range.
+     */
+    public static boolean valueInDoubleRange(
+            final double value,
+            final double rangeStart, final double rangeEnd,
+            final boolean startInclusive, final boolean endInclusive,
+            final boolean startFullyContained, final boolean endFullyContained) {
+        final int toStart = Double.compare(value, rangeStart);
+        final int toEnd = Double.compare(value, rangeEnd);
+        return valueMatches(
+                startInclusive ? toStart >= 0 : toStart > 0,
+                endInclusive ? toEnd <= 0 : toEnd < 0,
+                startFullyContained, endFullyContained);
+    }
+
+    private static boolean rangeMatches(
+            final boolean startMoreThanStart, final boolean startLessThanEnd,
+            final boolean endMoreThanStart, final boolean endLessThanEnd,
+            final boolean isStartFullyContained, final boolean isEndFullyContained) {
+        final boolean startInRange = startMoreThanStart && startLessThanEnd;
         final boolean endInRange = endMoreThanStart && endLessThanEnd;
 
         // [  ] the test item time range
@@ -102,6 +249,14 @@ public final class RangeUtil {
         return false;
     }
 
+    // A single value can only partially match a range whose start is after its end.
+    private static boolean valueMatches(
+            final boolean moreThanStart, final boolean lessThanEnd,
+            final boolean isStartFullyContained, final boolean isEndFullyContained) {
+        return (moreThanStart && lessThanEnd)
+                || (!moreThanStart && !isStartFullyContained && !lessThanEnd && !isEndFullyContained);
+    }
+
     private static <T extends Comparable<T>> boolean isMoreThanStart(final Comparable<T> value, final T rangeStart, final Boolean startInclusive) {
         final boolean result;
         if (null == rangeStart) {
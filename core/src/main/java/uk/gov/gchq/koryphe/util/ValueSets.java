@@ -0,0 +1,531 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Utility methods for building read-only sets of values that are tested for membership
+ * many times, such as the allowed values of an {@link uk.gov.gchq.koryphe.impl.predicate.IsIn}.
+ * <p>
+ * The backing structure is chosen from the types of the values:
+ * </p>
+ * <ul>
+ * <li>{@link Long} or {@link Integer} values are held in a bitmap if they fall within a range
+ * small enough for the bitmap to take no more memory than a hash table. Whether all of the
+ * values of another such bitmap are in the set is checked a word at a time, and the values of
+ * any other collection with one bit test each, stopping at the first value that is not in the set.</li>
+ * <li>Other {@link Long} or {@link Integer} values are held unboxed in an open addressing hash
+ * table, or in a sorted array searched with a binary search once there are more than
+ * {@link #SORTED_THRESHOLD} of them.</li>
+ * <li>{@link String} values are held in an open addressing hash table alongside their hash
+ * codes, and are compared by identity before being compared with equals.</li>
+ * <li>Any other values, a mix of types or a null value are held in a {@link HashSet}.</li>
+ * </ul>
+ * <p>
+ * The sets are equal to, and have the same hash code as, a {@link HashSet} of the same values.
+ * An <code>Integer</code> set does not contain an equal <code>Long</code>, or the other way round,
+ * just as with a <code>HashSet</code>. Sets other than the <code>HashSet</code>, including the
+ * empty set, cannot be modified.
+ * </p>
+ */
+public final class ValueSets {
+    /**
+     * The number of primitive values above which they are held in a sorted array, which
+     * uses half of the memory of the hash table but takes longer to search.
+     */
+    public static final int SORTED_THRESHOLD = 1 << 20;
+
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private ValueSets() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * Create a set of the given values.
+     *
+     * @param values the values, which may be null.
+     * @return the set of values.
+     */
+    public static Set<Object> of(final Collection<?> values) {
+        return of(values, false);
+    }
+
+    /**
+     * Create a set of the given values, optionally checking a Bloom filter before the set.
+     * The filter rejects most values that are not in the set without reading the set, which
+     * is worthwhile when the set is too large to stay in the CPU caches and most tested values
+     * are not in it.
+     *
+     * @param values      the values, which may be null.
+     * @param bloomFilter true if a Bloom filter should be checked first.
+     * @return the set of values.
+     */
+    public static Set<Object> of(final Collection<?> values, final boolean bloomFilter) {
+        if (null == values || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<Object> set = backend(values);
+        return bloomFilter ? new BloomFilteredSet(set) : set;
+    }
+
+    /**
+     * @param set the set.
+     * @return true if the set is checked against a Bloom filter first.
+     */
+    public static boolean isBloomFiltered(final Set<?> set) {
+        return set instanceof BloomFilteredSet;
+    }
+
+    private static Set<Object> backend(final Collection<?> values) {
+        final Class<?> type = commonClass(values);
+        if (Long.class == type || Integer.class == type) {
+            final Set<Object> bitmap = BitmapSet.of(type, values);
+            return null != bitmap ? bitmap : new PrimitiveSet(type, values);
+        }
+        if (String.class == type) {
+            return new StringSet(values);
+        }
+        return new HashSet<>(values);
+    }
+
+    // The class shared by all of the values, or null if they differ or any are null.
+    private static Class<?> commonClass(final Collection<?> values) {
+        Class<?> type = null;
+        for (final Object value : values) {
+            if (null == value || (null != type && type != value.getClass())) {
+                return null;
+            }
+            type = value.getClass();
+        }
+        return type;
+    }
+
+    // Mixes the bits of a value so that sequential values are spread across a table.
+    private static int spread(final long value) {
+        final long mixed = value * MIX;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    // The smallest power of two table that is no more than half full.
+    private static int tableSize(final int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 4 - 1);
+    }
+
+    private abstract static class ReadOnlySet extends AbstractSet<Object> {
+        @Override
+        public boolean add(final Object o) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be modified");
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be modified");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be modified");
+        }
+    }
+
+    /**
+     * A set of {@link Long} or {@link Integer} values held as primitive longs. Zero marks an
+     * empty slot of the hash table, so whether zero is in the set is held separately.
+     */
+    private static final class PrimitiveSet extends ReadOnlySet {
+        private final Class<?> type;
+        private final long[] table;
+        private final boolean sorted;
+        private final boolean containsZero;
+        private final int size;
+
+        private PrimitiveSet(final Class<?> type, final Collection<?> values) {
+            this.type = type;
+            final long[] distinct = values.stream().mapToLong(v -> ((Number) v).longValue()).sorted().distinct().toArray();
+            size = distinct.length;
+            sorted = size > SORTED_THRESHOLD;
+            if (sorted) {
+                table = distinct;
+                containsZero = Arrays.binarySearch(distinct, 0L) >= 0;
+            } else {
+                table = new long[tableSize(size)];
+                boolean zero = false;
+                for (final long value : distinct) {
+                    if (0L == value) {
+                        zero = true;
+                    } else {
+                        table[slot(value)] = value;
+                    }
+                }
+                containsZero = zero;
+            }
+        }
+
+        // The slot holding the value, or the empty slot it would be put in.
+        private int slot(final long value) {
+            final int mask = table.length - 1;
+            int index = spread(value) & mask;
+            while (0L != table[index] && value != table[index]) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private boolean containsValue(final long value) {
+            if (0L == value) {
+                return containsZero;
+            }
+            return sorted ? Arrays.binarySearch(table, value) >= 0 : value == table[slot(value)];
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return null != o && type == o.getClass() && containsValue(((Number) o).longValue());
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int index;
+                private boolean zeroPending = containsZero && !sorted;
+
+                @Override
+                public boolean hasNext() {
+                    if (zeroPending) {
+                        return true;
+                    }
+                    if (!sorted) {
+                        while (index < table.length && 0L == table[index]) {
+                            index++;
+                        }
+                    }
+                    return index < table.length;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final long value;
+                    if (zeroPending) {
+                        zeroPending = false;
+                        value = 0L;
+                    } else {
+                        value = table[index++];
+                    }
+                    return Long.class == type ? (Object) value : (Object) (int) value;
+                }
+            };
+        }
+    }
+
+    /**
+     * A set of {@link Long} or {@link Integer} values held as bits in an array of words. The
+     * first word holds the values from a multiple of 64 at or below the smallest value.
+     */
+    private static final class BitmapSet extends ReadOnlySet {
+        private final Class<?> type;
+        private final long base;
+        private final long[] words;
+        private final int size;
+
+        private BitmapSet(final Class<?> type, final long base, final long[] words, final int size) {
+            this.type = type;
+            this.base = base;
+            this.words = words;
+            this.size = size;
+        }
+
+        // A bitmap of the values, or null if it would take more memory than a hash table.
+        private static Set<Object> of(final Class<?> type, final Collection<?> values) {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (final Object value : values) {
+                final long longValue = ((Number) value).longValue();
+                min = Math.min(min, longValue);
+                max = Math.max(max, longValue);
+            }
+
+            final long base = min & -Long.SIZE;
+            final long wordCount = ((max - base) >>> 6) + 1;
+            if (max - base < 0 || wordCount > tableSize(values.size())) {
+                return null;
+            }
+
+            final long[] words = new long[(int) wordCount];
+            int size = 0;
+            for (final Object value : values) {
+                final long offset = ((Number) value).longValue() - base;
+                final long bit = 1L << offset;
+                if (0L == (words[(int) (offset >>> 6)] & bit)) {
+                    words[(int) (offset >>> 6)] |= bit;
+                    size++;
+                }
+            }
+            return new BitmapSet(type, base, words, size);
+        }
+
+        private boolean containsValue(final long value) {
+            if (value < base) {
+                return false;
+            }
+            final long offset = value - base;
+            return Long.compareUnsigned(offset >>> 6, words.length) < 0
+                    && 0L != (words[(int) (offset >>> 6)] & (1L << offset));
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return null != o && type == o.getClass() && containsValue(((Number) o).longValue());
+        }
+
+        @Override
+        public boolean containsAll(final Collection<?> c) {
+            if (!(c instanceof BitmapSet) || type != ((BitmapSet) c).type) {
+                // One bit test per value, stopping at the first value that is not in the set
+                for (final Object o : c) {
+                    if (null == o || type != o.getClass() || !containsValue(((Number) o).longValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            final BitmapSet other = (BitmapSet) c;
+            for (int i = 0; i < other.words.length; i++) {
+                final long word = other.words[i];
+                if (0L != word) {
+                    final long wordBase = other.base + ((long) i << 6);
+                    if (wordBase < base) {
+                        return false;
+                    }
+                    final long index = (wordBase - base) >>> 6;
+                    if (index >= words.length || 0L != (word & ~words[(int) index])) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int index;
+                private long remaining = words[0];
+
+                @Override
+                public boolean hasNext() {
+                    while (0L == remaining && index < words.length - 1) {
+                        remaining = words[++index];
+                    }
+                    return 0L != remaining;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final long value = base + ((long) index << 6) + Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    return Long.class == type ? (Object) value : (Object) (int) value;
+                }
+            };
+        }
+    }
+
+    /**
+     * A set of {@link String} values held in an open addressing hash table, along with their
+     * hash codes so most strings that are not in the set are rejected without comparing characters.
+     */
+    private static final class StringSet extends ReadOnlySet {
+        private final String[] table;
+        private final int[] hashes;
+        private final int size;
+
+        private StringSet(final Collection<?> values) {
+            final int capacity = tableSize(values.size());
+            table = new String[capacity];
+            hashes = new int[capacity];
+            int count = 0;
+            for (final Object value : values) {
+                final String string = (String) value;
+                final int hash = string.hashCode();
+                final int index = slot(string, hash);
+                if (null == table[index]) {
+                    table[index] = string;
+                    hashes[index] = hash;
+                    count++;
+                }
+            }
+            size = count;
+        }
+
+        // The slot holding the string, or the empty slot it would be put in.
+        private int slot(final String string, final int hash) {
+            final int mask = table.length - 1;
+            int index = spread(hash) & mask;
+            while (null != table[index]
+                    && (hashes[index] != hash || (string != table[index] && !string.equals(table[index])))) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof String)) {
+                return false;
+            }
+            final String string = (String) o;
+            return null != table[slot(string, string.hashCode())];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    while (index < table.length && null == table[index]) {
+                        index++;
+                    }
+                    return index < table.length;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return table[index++];
+                }
+            };
+        }
+    }
+
+    /**
+     * A set that checks a Bloom filter before checking the set it wraps. The filter has ten
+     * bits per value and is checked with seven hashes, giving about one false positive in a
+     * hundred values that are not in the set.
+     */
+    private static final class BloomFilteredSet extends ReadOnlySet {
+        private static final int BITS_PER_VALUE = 10;
+        private static final int HASHES = 7;
+
+        private final Set<Object> set;
+        private final long[] bits;
+        private final int mask;
+
+        private BloomFilteredSet(final Set<Object> set) {
+            this.set = set;
+            bits = new long[Math.max(1, tableSize(set.size() * BITS_PER_VALUE / 2) >>> 6)];
+            mask = bits.length * Long.SIZE - 1;
+            for (final Object value : set) {
+                final long hash = hash(value);
+                int h1 = (int) hash;
+                final int h2 = (int) (hash >>> 32);
+                for (int i = 0; i < HASHES; i++) {
+                    final int bit = h1 & mask;
+                    bits[bit >>> 6] |= 1L << bit;
+                    h1 += h2;
+                }
+            }
+        }
+
+        // Long and Integer values are hashed from the whole value, as their hash codes fold or repeat bits.
+        private static long hash(final Object value) {
+            final long key;
+            if (value instanceof Long || value instanceof Integer) {
+                key = ((Number) value).longValue();
+            } else {
+                key = null != value ? value.hashCode() : 0;
+            }
+            long mixed = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+            mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return mixed ^ (mixed >>> 33);
+        }
+
+        private boolean mightContain(final Object value) {
+            final long hash = hash(value);
+            int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                final int bit = h1 & mask;
+                if (0L == (bits[bit >>> 6] & (1L << bit))) {
+                    return false;
+                }
+                h1 += h2;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return mightContain(o) && set.contains(o);
+        }
+
+        @Override
+        public int size() {
+            return set.size();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            final Iterator<Object> iterator = set.iterator();
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return iterator.next();
+                }
+            };
+        }
+    }
+}
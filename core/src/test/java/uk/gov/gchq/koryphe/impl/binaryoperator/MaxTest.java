@@ -170,4 +170,15 @@ public class MaxTest extends BinaryOperatorTest<Max> {
     protected Iterable<Max> getDifferentInstancesOrNull() {
         return null;
     }
+
+    @Test
+    public void shouldMaxPrimitives() {
+        // Given
+        final Max max = new Max();
+
+        // When / Then
+        assertThat(max.applyAsLong(1L, 2L)).isEqualTo(2L);
+        assertThat(max.applyAsDouble(-0.0, 0.0)).isEqualTo(0.0);
+        assertThat(max.applyAsDouble(1.0, Double.NaN)).isNaN();
+    }
 }
@@ -477,4 +477,14 @@ public class SumTest extends BinaryOperatorTest<Sum> {
     protected Iterable<Sum> getDifferentInstancesOrNull() {
         return null;
     }
+
+    @Test
+    public void shouldSumPrimitives() {
+        // Given
+        final Sum sum = new Sum();
+
+        // When / Then
+        assertThat(sum.applyAsLong(1L, 2L)).isEqualTo(3L);
+        assertThat(sum.applyAsDouble(1.5, 2.0)).isEqualTo(3.5);
+    }
 }
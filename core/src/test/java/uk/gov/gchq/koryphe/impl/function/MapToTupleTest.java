@@ -19,11 +19,13 @@ package uk.gov.gchq.koryphe.impl.function;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.tuple.CompactMap;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -47,6 +49,38 @@ public class MapToTupleTest extends FunctionTest<MapToTuple> {
         assertThat(output).isEqualTo(new MapTuple<>(input));
     }
 
+    @Test
+    public void shouldConvertMapIntoCompactMapTuple() {
+        // Given
+        final MapToTuple function = new MapToTuple().compact();
+        final Map<String, Object> input = new HashMap<>();
+        input.put("A", 1);
+        input.put("B", 2);
+
+        // When
+        final Tuple output = function.apply(input);
+
+        // Then
+        assertThat(output).isEqualTo(new MapTuple<>(input));
+        assertThat(((MapTuple<?>) output).getValues()).isInstanceOf(CompactMap.class);
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialiseCompact() throws IOException {
+        // Given
+        final MapToTuple function = new MapToTuple().compact();
+
+        // When
+        final String json = JsonSerialiser.serialise(function);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.function.MapToTuple\",%n" +
+                "  \"compact\" : true%n" +
+                "}"), json);
+        assertThat(JsonSerialiser.deserialise(json, MapToTuple.class)).isEqualTo(function);
+    }
+
     @Override
     protected MapToTuple getInstance() {
         return new MapToTuple<String>();
@@ -54,7 +88,7 @@ public class MapToTupleTest extends FunctionTest<MapToTuple> {
 
     @Override
     protected Iterable<MapToTuple> getDifferentInstancesOrNull() {
-        return null;
+        return Collections.singletonList(new MapToTuple().compact());
     }
 
     @Override
@@ -23,12 +23,15 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
 import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.CompactMap;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveArrayTuple;
 import uk.gov.gchq.koryphe.tuple.ReflectiveTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -58,6 +61,36 @@ public class ToTupleTest extends FunctionTest<ToTuple> {
 
         // Then
         assertThat(output).isEqualTo(new ArrayTuple(1, 2, 3, 4));
+        assertThat(new ArrayTuple(1, 2, 3, 4)).isEqualTo(output).hasSameHashCodeAs(output);
+    }
+
+    @Test
+    public void shouldWrapPrimitiveArrayInReadOnlyPrimitiveArrayTuple() {
+        // Given
+        final ToTuple function = new ToTuple();
+        final int[] input = {1, 2, 3, 4};
+
+        // When
+        Tuple output = function.apply(input);
+
+        // Then
+        assertThat(output).isEqualTo(PrimitiveArrayTuple.of(input)).containsExactly(1, 2, 3, 4);
+        assertThat(((PrimitiveArrayTuple) output).getArray()).isSameAs(input);
+        assertThat(((PrimitiveArrayTuple) output).isWritable()).isFalse();
+    }
+
+    @Test
+    public void shouldWrapPrimitiveArrayInWritablePrimitiveArrayTuple() {
+        // Given
+        final ToTuple function = new ToTuple().writableArrays();
+        final double[] input = {1.5, 2.5};
+
+        // When
+        final Tuple<Integer> output = (Tuple<Integer>) function.apply(input);
+        output.put(1, 3.5);
+
+        // Then
+        assertThat(input).containsExactly(1.5, 3.5);
     }
 
     @Test
@@ -101,6 +134,38 @@ public class ToTupleTest extends FunctionTest<ToTuple> {
         assertThat(output).isEqualTo(new ReflectiveTuple(input));
     }
 
+    @Test
+    public void shouldConvertMapIntoCompactMapTuple() {
+        // Given
+        final ToTuple function = new ToTuple().compact();
+        final Map<String, Object> input = new HashMap<>();
+        input.put("A", 1);
+        input.put("B", 2);
+
+        // When
+        final Tuple output = function.apply(input);
+
+        // Then
+        assertThat(output).isEqualTo(new MapTuple<>(input));
+        assertThat(((MapTuple<?>) output).getValues()).isInstanceOf(CompactMap.class);
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialiseCompact() throws IOException {
+        // Given
+        final ToTuple function = new ToTuple().compact();
+
+        // When
+        final String json = JsonSerialiser.serialise(function);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.function.ToTuple\",%n" +
+                "  \"compact\" : true%n" +
+                "}"), json);
+        assertThat(JsonSerialiser.deserialise(json, ToTuple.class)).isEqualTo(function);
+    }
+
     @Override
     protected ToTuple getInstance() {
         return new ToTuple();
@@ -108,7 +173,7 @@ public class ToTupleTest extends FunctionTest<ToTuple> {
 
     @Override
     protected Iterable<ToTuple> getDifferentInstancesOrNull() {
-        return null;
+        return Arrays.asList(new ToTuple().compact(), new ToTuple().writableArrays());
     }
 
     @Override
@@ -22,6 +22,9 @@ import uk.gov.gchq.koryphe.predicate.PredicateTest;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -120,4 +123,14 @@ public class AgeOffTest extends PredicateTest<AgeOff> {
     protected Iterable<AgeOff> getDifferentInstancesOrNull() {
         return Collections.singletonList(new AgeOff(100L));
     }
+
+    @Test
+    public void shouldUseGivenClock() {
+        // Given
+        final AgeOff filter = new AgeOff(100L);
+        filter.useClock(Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC));
+
+        // When / Then
+        assertThat(filter).accepts(901L, 1000L, 2000L).rejects(900L, 0L);
+    }
 }
@@ -247,4 +247,34 @@ public class AndTest extends PredicateTest<And> {
                 new And(new Exists())
         );
     }
+
+    @Test
+    public void shouldOnlyTestRowsThatPassedEarlierPredicatesInColumn() {
+        // Given
+        final Predicate<Integer> lessThan = mock(Predicate.class);
+        given(lessThan.test(2)).willReturn(true);
+        final And<Comparable> and = new And<>(new IsMoreThan(1), (Predicate) lessThan);
+        final Object[] column = {0, 1, 2};
+
+        // When
+        final int[] passed = and.testColumn(column, new int[]{0, 1, 2}, 3);
+
+        // Then
+        assertThat(passed).containsExactly(2);
+        verify(lessThan).test(2);
+        verify(lessThan, never()).test(0);
+        verify(lessThan, never()).test(1);
+    }
+
+    @Test
+    public void shouldPassAllRowsOfColumnWhenNoPredicates() {
+        // Given
+        final And<Object> and = new And<>();
+
+        // When
+        final int[] passed = and.testColumn(new Object[]{"a", "b"}, new int[]{0, 1}, 2);
+
+        // Then
+        assertThat(passed).containsExactly(0, 1);
+    }
 }
@@ -211,4 +211,29 @@ public class AreInTest extends PredicateTest<AreIn> {
                 new AreIn(VALUE2)
         );
     }
+
+    @Test
+    public void shouldCheckInputAgainstAllowedValuesList() {
+        // Given
+        final AreIn filter = new AreIn(Arrays.asList(1L, 2L, 3L, 2L));
+
+        // When / Then
+        assertThat(filter).accepts(Arrays.asList(3L, 1L, 3L), Collections.emptyList())
+                .rejects(Arrays.asList(1L, 4L), Arrays.asList(1L, 2), Collections.singletonList(null));
+    }
+
+    @Test
+    public void shouldNotSeeChangesToAllowedValuesAfterTheyAreSet() {
+        // Given
+        final List<Long> allowedValues = new ArrayList<>(Arrays.asList(1L, 2L));
+        final AreIn filter = new AreIn(allowedValues);
+
+        // When
+        allowedValues.clear();
+
+        // Then
+        assertThat(filter.getValues().toArray()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(filter).accepts(Arrays.asList(1L, 2L))
+                .rejects(Arrays.asList(1L, 3L));
+    }
 }
@@ -91,4 +91,16 @@ public class IsEqualTest extends PredicateTest<IsEqual> {
                 new IsEqual(4L)
         );
     }
+
+    @Test
+    public void shouldTestPrimitivesConsistentlyWithBoxedValues() {
+        // Given
+        final IsEqual filter = new IsEqual(5L);
+
+        // When / Then
+        assertThat(filter.testLong(5L)).isTrue();
+        assertThat(filter.testLong(6L)).isFalse();
+        assertThat(filter.testInt(5)).isEqualTo(filter.test(5));
+        assertThat(filter.testDouble(5.0)).isEqualTo(filter.test(5.0));
+    }
 }
@@ -22,10 +22,12 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
 import uk.gov.gchq.koryphe.util.CustomObj;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
+import uk.gov.gchq.koryphe.util.ValueSets;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -79,6 +81,74 @@ public class IsInTest extends PredicateTest<IsIn> {
 
     @Override
     protected Iterable<IsIn> getDifferentInstancesOrNull() {
-        return null;
+        final IsIn bloomFiltered = new IsIn("A", "B");
+        bloomFiltered.setBloomFilter(true);
+        return Arrays.asList(new IsIn("A", "C"), bloomFiltered);
+    }
+
+    @Test
+    public void shouldTestSelectedRowsOfColumn() {
+        // Given
+        final IsIn filter = new IsIn("a", 1L);
+        final Object[] column = {"a", "b", 1L, 1, "a"};
+
+        // When
+        final int[] passed = filter.testColumn(column, new int[]{1, 2, 3, 4}, 4);
+
+        // Then
+        assertThat(passed).containsExactly(2, 4);
+    }
+
+    @Test
+    public void shouldAcceptLongsWithoutAcceptingIntegers() {
+        // Given
+        final IsIn filter = new IsIn(1L, 2L, 3L);
+
+        // When / Then
+        assertThat(filter).accepts(1L, 3L).rejects(1, 4L, "1", null);
+    }
+
+    @Test
+    public void shouldUseBloomFilterAndOnlySerialiseItWhenSet() throws IOException {
+        // Given
+        final IsIn filter = new IsIn(1L, 2L, 3L);
+        filter.setBloomFilter(true);
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+        final IsIn deserialised = JsonSerialiser.deserialise(json, IsIn.class);
+
+        // Then
+        assertThat(filter).accepts(1L, 2L, 3L).rejects(4L, 1);
+        assertThat(json).contains("\"bloomFilter\":true");
+        assertThat(deserialised).isEqualTo(filter);
+        assertThat(deserialised).accepts(2L).rejects(4L);
+        assertThat(deserialised.isBloomFilter()).isTrue();
+        assertThat(JsonSerialiser.serialise(new IsIn(1L))).doesNotContain("bloomFilter");
+    }
+
+    @Test
+    public void shouldOnlyUseGivenSetAsIsWithoutBloomFilter() {
+        // Given
+        final Set<Object> values = Sets.newHashSet(1L, 2L);
+        final IsIn filter = new IsIn();
+        final IsIn bloomFiltered = new IsIn();
+        bloomFiltered.setBloomFilter(true);
+
+        // When
+        filter.setAllowedValues(values);
+        bloomFiltered.setAllowedValues(values);
+
+        // Then
+        assertThat(filter.getAllowedValues()).isSameAs(values);
+        assertThat(bloomFiltered.getAllowedValues()).isNotSameAs(values).isEqualTo(values);
+        assertThat(ValueSets.isBloomFiltered(bloomFiltered.getAllowedValues())).isTrue();
+        assertThat(bloomFiltered).accepts(1L, 2L).rejects(3L);
+
+        // When
+        filter.setBloomFilter(true);
+
+        // Then
+        assertThat(filter.getAllowedValues()).isNotSameAs(values).isEqualTo(values);
     }
 }
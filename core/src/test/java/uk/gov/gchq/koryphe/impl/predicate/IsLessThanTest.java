@@ -163,4 +163,31 @@ public class IsLessThanTest extends PredicateTest<IsLessThan> {
                 new IsLessThan(5, true)
         );
     }
+
+    @Test
+    public void shouldTestPrimitivesConsistentlyWithBoxedValues() {
+        // Given
+        final IsLessThan intFilter = new IsLessThan(5, true);
+        final IsLessThan doubleFilter = new IsLessThan(5.0);
+
+        // When / Then
+        assertThat(intFilter.testInt(5)).isTrue();
+        assertThat(intFilter.testInt(6)).isFalse();
+        assertThat(intFilter.testLong(4L)).isEqualTo(intFilter.test(4L));
+        assertThat(doubleFilter.testDouble(4.9)).isTrue();
+        assertThat(doubleFilter.testDouble(5.0)).isFalse();
+    }
+
+    @Test
+    public void shouldTestSelectedRowsOfColumn() {
+        // Given
+        final IsLessThan filter = new IsLessThan(5, true);
+        final Object[] column = {1, 6, null, 5, 4L, 2};
+
+        // When
+        final int[] passed = filter.testColumn(column, new int[]{0, 1, 2, 3, 4, 5}, 6);
+
+        // Then
+        assertThat(passed).containsExactly(0, 3, 5);
+    }
 }
@@ -133,4 +133,32 @@ public class IsMoreThanTest extends PredicateTest<IsMoreThan> {
                 new IsMoreThan(10L)
         );
     }
+
+    @Test
+    public void shouldTestPrimitivesConsistentlyWithBoxedValues() {
+        // Given
+        final IsMoreThan longFilter = new IsMoreThan(5L, true);
+        final IsMoreThan doubleFilter = new IsMoreThan(5.0);
+
+        // When / Then
+        assertThat(longFilter.testLong(5L)).isTrue();
+        assertThat(longFilter.testLong(4L)).isFalse();
+        assertThat(longFilter.testInt(6)).isEqualTo(longFilter.test(6));
+        assertThat(doubleFilter.testDouble(5.1)).isTrue();
+        assertThat(doubleFilter.testDouble(5.0)).isFalse();
+        assertThat(doubleFilter.testLong(6L)).isEqualTo(doubleFilter.test(6L));
+    }
+
+    @Test
+    public void shouldTestSelectedRowsOfColumn() {
+        // Given
+        final IsMoreThan filter = new IsMoreThan(5);
+        final Object[] column = {1, 6, null, 10, 5L, 7};
+
+        // When
+        final int[] passed = filter.testColumn(column, new int[]{0, 1, 2, 3, 4}, 5);
+
+        // Then
+        assertThat(passed).containsExactly(1, 3);
+    }
 }
@@ -99,4 +99,76 @@ public class MultiRegexTest extends PredicateTest<MultiRegex> {
                 new MultiRegex(Pattern.compile("different"), Pattern.compile("[t,T].*[t,T]"))
         );
     }
+
+    @Test
+    public void shouldReportFirstMatchingPattern() {
+        // Given
+        final MultiRegex filter = new MultiRegex(
+                Pattern.compile("pre.*fix"),
+                Pattern.compile("\\d+"),
+                Pattern.compile(".*fix"),
+                Pattern.compile("a|b"));
+
+        // When / Then
+        assertThat(filter.matchingPattern("prefix")).isSameAs(filter.getPatterns()[0]);
+        assertThat(filter.matchingPattern("postfix").pattern()).isEqualTo(".*fix");
+        assertThat(filter.matchingPattern("123").pattern()).isEqualTo("\\d+");
+        assertThat(filter.matchingPattern("b").pattern()).isEqualTo("a|b");
+        assertThat(filter.matchingPattern("pre")).isNull();
+        assertThat(filter.matchingPattern(null)).isNull();
+    }
+
+    @Test
+    public void shouldOnlyAcceptWhenWholeInputMatchesPatternWithLiteralPresent() {
+        // Given
+        final MultiRegex filter = new MultiRegex(Pattern.compile("id-[0-9]+"), Pattern.compile("x?y"));
+
+        // When / Then
+        assertThat(filter).accepts("id-42", "y", "xy").rejects("id-", "my id-42", "xx", "");
+    }
+
+    @Test
+    public void shouldMatchPatternsWithEscapesThatTakeArguments() {
+        // Given
+        final String[][] patternsAndInputs = {
+                {"\\x41bc", "Abc"},
+                {"\\x{41}bc", "Abc"},
+                {"\\u0041bc", "Abc"},
+                {"\\0101bc", "Abc"},
+                {"ab\\cJc", "ab\nc"},
+                {"(?<name>ab)c\\k<name>", "abcab"},
+                {"ab\\p{L}c", "abxc"},
+                {"ab\\pLc", "abxc"},
+                {"ab\\P{L}c", "ab1c"},
+                {"ab(\\x{29})c", "ab)c"},
+                {"ab[\\x5d]c", "ab]c"},
+        };
+
+        for (final String[] patternAndInput : patternsAndInputs) {
+            // When
+            final MultiRegex filter = new MultiRegex(Pattern.compile(patternAndInput[0]));
+
+            // Then
+            assertThat(filter.test(patternAndInput[1]))
+                    .as("%s matches %s", patternAndInput[0], patternAndInput[1])
+                    .isTrue()
+                    .isEqualTo(Pattern.matches(patternAndInput[0], patternAndInput[1]));
+        }
+    }
+
+    @Test
+    public void shouldMatchPatternsWithNamedCharacterEscapes() {
+        // Given
+        final Pattern pattern;
+        try {
+            pattern = Pattern.compile("ab\\N{LATIN SMALL LETTER X}c");
+        } catch (final IllegalArgumentException e) {
+            // Named characters are not supported before Java 9
+            return;
+        }
+        final MultiRegex filter = new MultiRegex(pattern);
+
+        // When / Then
+        assertThat(filter).accepts("abxc").rejects("abc", "abNc");
+    }
 }
@@ -134,4 +134,19 @@ public class NotTest extends PredicateTest<Not> {
                 .isNotAssignableFrom(Integer.class)
                 .isNotAssignableFrom(Double.class, Integer.class);
     }
+
+    @Test
+    public void shouldTestSelectedRowsOfColumn() {
+        // Given
+        final Not<Comparable> filter = new Not<>(new IsMoreThan(5));
+        final Object[] column = {1, 6, 3, 10, 5};
+        final int[] rows = {1, 2, 3, 4};
+
+        // When
+        final int passed = filter.testColumn(column, rows, rows.length, rows);
+
+        // Then
+        assertThat(passed).isEqualTo(2);
+        assertThat(rows).startsWith(2, 4);
+    }
 }
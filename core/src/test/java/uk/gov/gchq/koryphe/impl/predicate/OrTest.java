@@ -26,6 +26,8 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -232,6 +234,28 @@ public class OrTest extends PredicateTest<Or> {
                 .rejectsInput(Double.class, Integer.class);
     }
 
+    @Test
+    public void shouldTestSelectiveComponentFirstWhenReorderingAdaptively() {
+        // Given
+        final AtomicInteger alwaysFalseCalls = new AtomicInteger();
+        final Predicate<Integer> alwaysFalse = i -> {
+            alwaysFalseCalls.incrementAndGet();
+            return false;
+        };
+        final Or<Integer> or = new Or<>(alwaysFalse, new IsMoreThan(10));
+        final Or<Integer> adaptive = new Or<>(alwaysFalse, new IsMoreThan(10));
+        adaptive.reorderAdaptively(true);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            assertThat(adaptive.test(i)).isEqualTo(or.test(i));
+        }
+
+        // Then
+        assertThat(adaptive).isEqualTo(or);
+        assertThat(alwaysFalseCalls.get() - 20000).isLessThan(10000);
+    }
+
     @Override
     protected Or getInstance() {
         return new Or(new IsA(String.class), new IsMoreThan(5L));
@@ -244,4 +268,23 @@ public class OrTest extends PredicateTest<Or> {
                 new Or<>(new IsMoreThan(5), new IsLessThan(5, true))
         );
     }
+
+    @Test
+    public void shouldOnlyTestRowsThatFailedEarlierPredicatesInColumn() {
+        // Given
+        final Predicate<Integer> lessThan = mock(Predicate.class);
+        given(lessThan.test(0)).willReturn(true);
+        final Or<Comparable> or = new Or<>(new IsMoreThan(1), (Predicate) lessThan);
+        final Object[] column = {0, 1, 2, 3};
+
+        // When
+        final BitSet passed = or.testColumn(column, BitSet.valueOf(new long[]{0b1111}));
+
+        // Then
+        assertThat(passed.stream().toArray()).containsExactly(0, 2, 3);
+        verify(lessThan).test(0);
+        verify(lessThan).test(1);
+        verify(lessThan, never()).test(2);
+        verify(lessThan, never()).test(3);
+    }
 }
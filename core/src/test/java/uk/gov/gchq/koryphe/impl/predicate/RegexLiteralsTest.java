@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegexLiteralsTest {
+
+    @Test
+    public void shouldFindLiteralsBetweenOtherConstructs() {
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("abc")))
+                .containsExactly("abc");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("ab.*cd[0-9]+ef\\d(gh)ij")))
+                .containsExactly("ab", "cd", "ef", "ij");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("a\\.b\\Q*+\\E^")))
+                .containsExactly("a.b*+");
+        assertThat(RegexLiterals.longestRequiredLiteral(Pattern.compile(".*x.*longest.*mid.*")))
+                .isEqualTo("longest");
+    }
+
+    @Test
+    public void shouldDropOptionalCharacters() {
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("colou?r")))
+                .containsExactly("colo", "r");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("ab*c{0,2}d+e")))
+                .containsExactly("a", "d", "e");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("[])]ab[^]x]c")))
+                .containsExactly("ab", "c");
+    }
+
+    @Test
+    public void shouldFindNoLiteralsWhenPatternMayNotRequireThem() {
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("abc|def"))).isEmpty();
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("(?i)abc"))).isEmpty();
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("abc", Pattern.CASE_INSENSITIVE))).isEmpty();
+        assertThat(RegexLiterals.longestRequiredLiteral(Pattern.compile("\\d+"))).isNull();
+    }
+
+    @Test
+    public void shouldNotTreatEscapeArgumentsAsLiterals() {
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("\\x41bc"))).containsExactly("bc");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("\\x{41}bc"))).containsExactly("bc");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("\\u0041bc"))).containsExactly("bc");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("\\0101bc"))).containsExactly("bc");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("\\0477"))).containsExactly("7");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("a\\cJb"))).containsExactly("a", "b");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("(?<name>x)a\\k<name>b"))).containsExactly("a", "b");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("ab\\p{L}c\\PLd"))).containsExactly("ab", "c", "d");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("(a)b\\12"))).containsExactly("b");
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("a(\\x{29})b"))).containsExactly("a", "b");
+    }
+
+    @Test
+    public void shouldTreatLiteralPatternAsSingleLiteral() {
+        assertThat(RegexLiterals.requiredLiterals(Pattern.compile("a.b|c", Pattern.LITERAL)))
+                .containsExactly("a.b|c");
+    }
+
+    @Test
+    public void shouldRecogniseLiteralAndAnchoredPatterns() {
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc")).matches("abc")).isTrue();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc.*")).matches("abcd")).isTrue();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile(".*\\.gov")).matches("x.gov")).isTrue();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile(".*\\.gov")).matches("xgov")).isFalse();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile(".*b.*")).matches("abc")).isTrue();
+    }
+
+    @Test
+    public void shouldNotRecogniseOtherPatterns() {
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("ab?c"))).isNull();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc\\.*"))).isNull();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("a.c"))).isNull();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile(".*?abc"))).isNull();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc\\d"))).isNull();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc", Pattern.CASE_INSENSITIVE))).isNull();
+    }
+
+    @Test
+    public void shouldOnlyApplyAnchoredMatchToInputsWithoutLineTerminators() {
+        // Given
+        final RegexLiterals.LiteralMatch prefix = RegexLiterals.literalMatch(Pattern.compile("abc.*"));
+        final RegexLiterals.LiteralMatch dotAll = RegexLiterals.literalMatch(Pattern.compile("abc.*", Pattern.DOTALL));
+
+        // When / Then
+        assertThat(prefix.appliesTo("abcd")).isTrue();
+        assertThat(prefix.appliesTo("abc\nd")).isFalse();
+        assertThat(dotAll.appliesTo("abc\nd")).isTrue();
+        assertThat(RegexLiterals.literalMatch(Pattern.compile("abc")).appliesTo("a\nb")).isTrue();
+    }
+}
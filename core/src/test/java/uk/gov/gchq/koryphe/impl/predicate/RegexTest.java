@@ -23,6 +23,7 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -83,4 +84,55 @@ public class RegexTest extends PredicateTest<Regex> {
         );
     }
 
+    @Test
+    public void shouldTestSelectedRowsOfColumn() {
+        // Given
+        final Regex filter = new Regex("te[a-d]t");
+        final Object[] column = {"teat", "test", null, 1, "tedt"};
+
+        // When
+        final int[] passed = filter.testColumn(column, new int[]{0, 1, 2, 3, 4}, 5);
+
+        // Then
+        assertThat(passed).containsExactly(0, 4);
+    }
+
+    @Test
+    public void shouldMatchLiteralAndAnchoredPatternsLikeTheMatcher() {
+        // Given
+        final String[] regexes = {"abc", "abc.*", ".*\\.gov", ".*b.*", "a\\.c", ".*", "", "\\Qa+b\\E.*"};
+        final String[] inputs = {"abc", "abcd", "xabc", "x.gov", "xgov", "a.c", "abc\n", "\nx.gov", "x\u2028bx", "", "a+bc", "ab"};
+
+        // When / Then
+        for (final String regex : regexes) {
+            final Pattern pattern = Pattern.compile(regex);
+            final Pattern dotAll = Pattern.compile(regex, Pattern.DOTALL);
+            for (final String input : inputs) {
+                assertThat(new Regex(pattern).test(input))
+                        .as("%s matches %s", regex, input)
+                        .isEqualTo(pattern.matcher(input).matches());
+                assertThat(new Regex(dotAll).test(input))
+                        .as("%s with DOTALL matches %s", regex, input)
+                        .isEqualTo(dotAll.matcher(input).matches());
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchLiteralFlaggedPatternExactly() {
+        // Given
+        final Regex filter = new Regex(Pattern.compile("a.*", Pattern.LITERAL));
+
+        // When / Then
+        assertThat(filter).accepts("a.*").rejects("abc", "a.*b");
+    }
+
+    @Test
+    public void shouldReuseMatcherWithinThreadForComplexPatterns() {
+        // Given
+        final Regex filter = new Regex("[a-c]+\\d");
+
+        // When / Then
+        assertThat(filter).accepts("ab1", "c9").rejects("ab", "d1", "ab12");
+    }
 }
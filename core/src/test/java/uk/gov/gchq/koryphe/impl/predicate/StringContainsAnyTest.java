@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.util.JsonSerialiser;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringContainsAnyTest extends PredicateTest<StringContainsAny> {
+
+    private static final String INPUT = "This is a test string, used for the StringContainsAny test";
+
+    @Test
+    public void shouldAcceptWhenStringContainsAnyValue() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny("missing", "used");
+
+        // When / Then
+        assertThat(filter).accepts(INPUT);
+    }
+
+    @Test
+    public void shouldRejectWhenStringContainsNoValues() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny("missing", "stringcontains");
+
+        // When / Then
+        assertThat(filter).rejects(INPUT, "", null);
+    }
+
+    @Test
+    public void shouldRejectWhenNoValues() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny();
+
+        // When / Then
+        assertThat(filter).rejects(INPUT);
+    }
+
+    @Test
+    public void shouldAcceptEmptyString() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny("missing", "");
+
+        // When / Then
+        assertThat(filter).accepts(INPUT, "");
+    }
+
+    @Test
+    public void shouldMatchWhenIgnoreCaseSet() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny("missing", "stringcontains");
+        filter.setIgnoreCase(true);
+
+        // When / Then
+        assertThat(filter).accepts(INPUT);
+    }
+
+    @Test
+    public void shouldReturnMatchingValues() {
+        // Given
+        final StringContainsAny filter = new StringContainsAny(Arrays.asList("TEST", "missing", "a", null, "string"), true);
+
+        // When / Then
+        assertThat(filter.matchingValues(INPUT)).containsExactly("TEST", "a", "string");
+        assertThat(filter.matchingValues("nothing here")).isEmpty();
+        assertThat(filter.matchingValues(null)).isEmpty();
+    }
+
+    @Override
+    @Test
+    public void shouldJsonSerialiseAndDeserialise() throws IOException {
+        // Given
+        final StringContainsAny filter = new StringContainsAny("a", "b");
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" + "  \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.StringContainsAny\",%n" +
+                                                          "  \"values\" : [ \"a\", \"b\" ],%n" +
+                                                          "  \"ignoreCase\" : false%n" +
+                                                          "}"), json);
+
+        // When 2
+        final StringContainsAny deserialisedFilter = JsonSerialiser.deserialise(json, StringContainsAny.class);
+
+        // Then 2
+        assertThat(deserialisedFilter).isEqualTo(filter);
+        assertThat(deserialisedFilter).accepts("xbx");
+    }
+
+    @Override
+    protected StringContainsAny getInstance() {
+        return new StringContainsAny("a", "b");
+    }
+
+    @Override
+    protected Iterable<StringContainsAny> getDifferentInstancesOrNull() {
+        return Arrays.asList(
+                new StringContainsAny(),
+                new StringContainsAny("a", "c"),
+                new StringContainsAny(Arrays.asList("a", "b"), true)
+        );
+    }
+}
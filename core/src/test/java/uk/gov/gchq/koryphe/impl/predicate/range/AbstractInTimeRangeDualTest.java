@@ -27,9 +27,15 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -449,6 +455,58 @@ public abstract class AbstractInTimeRangeDualTest<T extends Comparable<T>> exten
         assertThat(deserialisedFilter.getEnd()).isEqualTo(end);
     }
 
+    @Test
+    public void shouldRecalculateOffsetsWhenClockChanges() {
+        // Given
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final AbstractInTimeRangeDual<T> filter = createBuilderWithTimeOffsets()
+                .startOffset(-1000L)
+                .endOffset(1000L)
+                .offsetUnit(TimeUnit.MILLISECOND)
+                .startFullyContained(true)
+                .endFullyContained(true)
+                .build();
+        filter.useClock(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        });
+        final List<Tuple2<Long, Long>> values = Collections.singletonList(new Tuple2<>(1_000_500L, 1_000_500L));
+
+        // When / Then
+        testValues(true, values, filter);
+        now.set(3_000_000L);
+        testValues(false, values, filter);
+        now.set(1_001_000L);
+        testValues(true, values, filter);
+    }
+
+    @Test
+    public void shouldUseFixedClockForOffsets() {
+        // Given
+        final AbstractInTimeRangeDual<T> filter = createBuilderWithTimeOffsets()
+                .startOffset(-1000L)
+                .offsetUnit(TimeUnit.MILLISECOND)
+                .startFullyContained(true)
+                .build();
+        filter.useClock(Clock.fixed(Instant.ofEpochMilli(5000L), ZoneOffset.UTC));
+
+        // When / Then
+        testValues(true, Collections.singletonList(new Tuple2<>(4000L, 4000L)), filter);
+        testValues(false, Collections.singletonList(new Tuple2<>(3999L, 3999L)), filter);
+    }
+
     @Test
     public void shouldConstructFromOffsetMillis() throws IOException {
         // When
@@ -241,4 +241,58 @@ public class InRangeTest<T extends Comparable<T>> extends PredicateTest<InRange>
                     .isEqualTo(expectedResult);
         }
     }
+
+    @Test
+    public void shouldTestSelectedRowsOfList() {
+        // Given
+        final InRange<Long> filter = new InRange.Builder<Long>()
+                .start(2L)
+                .end(4L)
+                .endInclusive(false)
+                .build();
+        final List<Long> column = Arrays.asList(1L, 2L, 3L, 4L, null);
+
+        // When
+        final int[] passed = filter.testColumn(column, new int[]{0, 1, 2, 3, 4}, 5);
+
+        // Then
+        assertThat(passed).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldTestDoublesLikeCompareTo() {
+        // Given
+        final InRange<Double> filter = new InRange.Builder<Double>()
+                .start(0.0)
+                .endInclusive(false)
+                .build();
+
+        // When / Then
+        assertThat(filter).accepts(0.0, 1.5, Double.POSITIVE_INFINITY, Double.NaN).rejects(-0.0, -1.0, null);
+    }
+
+    @Test
+    public void shouldTestValuesOfOtherClassesThanBoundsWithCompareTo() {
+        // Given
+        final InRange<String> filter = new InRange.Builder<String>()
+                .start("b")
+                .end("d")
+                .build();
+
+        // When / Then
+        assertThat(filter).accepts("b", "c", "d").rejects("a", "e");
+    }
+
+    @Test
+    public void shouldAcceptValueBetweenEndAndStartOfInvertedRange() {
+        // Given
+        final InRange<Integer> filter = new InRange.Builder<Integer>()
+                .start(10)
+                .end(5)
+                .build();
+
+        // When / Then
+        assertThat(filter).accepts(7).rejects(4, 11);
+        assertThat(filter.getPredicate().test(7, 7)).isTrue();
+    }
 }
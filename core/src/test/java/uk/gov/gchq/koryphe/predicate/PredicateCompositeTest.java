@@ -23,12 +23,16 @@ import uk.gov.gchq.koryphe.impl.predicate.IsA;
 import uk.gov.gchq.koryphe.impl.predicate.IsFalse;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.Not;
+import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.n.Tuple1;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -142,4 +146,144 @@ class PredicateCompositeTest extends PredicateTest<PredicateComposite> {
         // Then
         assertThat(predicateComposite).accepts(input);
     }
+
+    @Test
+    public void shouldTestSelectiveComponentFirstWhenReorderingAdaptively() {
+        // Given
+        final AtomicInteger alwaysTrueCalls = new AtomicInteger();
+        final AtomicInteger lessThanCalls = new AtomicInteger();
+        final Predicate<Integer> alwaysTrue = i -> {
+            alwaysTrueCalls.incrementAndGet();
+            return true;
+        };
+        final Predicate<Integer> lessThan = i -> {
+            lessThanCalls.incrementAndGet();
+            return i < 10;
+        };
+        final PredicateComposite<Integer, Predicate<Integer>> predicateComposite = new PredicateComposite<>(Arrays.asList(alwaysTrue, lessThan));
+        final PredicateComposite<Integer, Predicate<Integer>> adaptive = new PredicateComposite<>(Arrays.asList(alwaysTrue, lessThan));
+        adaptive.reorderAdaptively(true);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            assertThat(adaptive.test(i)).isEqualTo(predicateComposite.test(i));
+        }
+
+        // Then
+        assertThat(adaptive).isEqualTo(predicateComposite);
+        assertThat(alwaysTrueCalls.get() - 20000).isLessThan(10000);
+        assertThat(lessThanCalls.get()).isEqualTo(40000);
+    }
+
+    @Test
+    public void shouldTestComponentsInDeclaredOrderWhenAdaptiveReorderingIsDisabled() {
+        // Given
+        final PredicateComposite predicateComposite = new PredicateComposite(Arrays.asList(new IsA(String.class), new IsFalse()));
+        predicateComposite.reorderAdaptively(true);
+
+        // When
+        predicateComposite.reorderAdaptively(false);
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(predicateComposite).rejects(i);
+        }
+    }
+
+    @Test
+    public void shouldApplyTupleAdaptedPredicateDirectlyToInputWhenBoundToNonTupleClass() {
+        // Given
+        final AtomicInteger tupleAdaptedCalls = new AtomicInteger();
+        final TupleAdaptedPredicate<Integer, Comparable> tupleAdapted = new TupleAdaptedPredicate<Integer, Comparable>(new IsLessThan(10), new Integer[]{0}) {
+            @Override
+            public boolean test(final Tuple<Integer> input) {
+                tupleAdaptedCalls.incrementAndGet();
+                return super.test(input);
+            }
+        };
+        final PredicateComposite predicateComposite = new PredicateComposite<>(Arrays.asList(tupleAdapted));
+
+        // When
+        predicateComposite.bindInputClass(Integer.class);
+
+        // Then
+        assertThat(predicateComposite)
+                .accepts(5)
+                .rejects(15);
+        assertThat(tupleAdaptedCalls.get()).isZero();
+    }
+
+    @Test
+    public void shouldDispatchOnInputTypeWhenBoundToClassThatMayBeATuple() {
+        // Given
+        final PredicateComposite predicateComposite = new PredicateComposite<>(
+                Arrays.asList(new TupleAdaptedPredicate<>(new IsLessThan(10), new Integer[]{0}))
+        );
+
+        // When
+        predicateComposite.bindInputClass(Object.class);
+
+        // Then
+        assertThat(predicateComposite)
+                .accepts(5)
+                .accepts(new Tuple1<>(5))
+                .rejects(new Tuple1<>(15));
+    }
+
+    @Test
+    public void shouldBindNestedCompositesToInputClass() {
+        // Given
+        final PredicateComposite nested = new PredicateComposite<>(
+                Arrays.asList(new TupleAdaptedPredicate<>(new IsLessThan(10), new Integer[]{0}))
+        );
+        final PredicateComposite predicateComposite = new PredicateComposite<>(Arrays.asList(new Exists(), nested));
+        final PredicateComposite unbound = new PredicateComposite(Arrays.asList(new Exists(), new PredicateComposite<>(
+                Arrays.asList(new TupleAdaptedPredicate<>(new IsLessThan(10), new Integer[]{0}))
+        )));
+
+        // When
+        predicateComposite.bindInputClass(Tuple1.class);
+
+        // Then
+        assertThat(predicateComposite).isEqualTo(unbound);
+        assertThat(predicateComposite)
+                .accepts(new Tuple1<>(5))
+                .rejects(new Tuple1<>(15));
+    }
+
+    @Test
+    public void shouldDiscardBindingWhenComponentsAreReplaced() {
+        // Given
+        final PredicateComposite predicateComposite = new PredicateComposite(Arrays.asList(new IsLessThan(10)));
+        predicateComposite.bindInputClass(Integer.class);
+
+        // When
+        predicateComposite.setComponents(Arrays.asList(new IsMoreThan(10)));
+
+        // Then
+        assertThat(predicateComposite)
+                .accepts(15)
+                .rejects(5);
+    }
+
+    @Test
+    public void shouldTestNullInputTheSameWhenBound() {
+        for (final Class<?> inputClass : Arrays.asList(Integer.class, Object.class, Integer[].class)) {
+            for (final Predicate<Object> predicate : Arrays.<Predicate<Object>>asList(new IsA(Integer.class), new Not<>(new Exists()))) {
+                // Given
+                final PredicateComposite unbound = new PredicateComposite<>(
+                        Arrays.asList(new TupleAdaptedPredicate<>(predicate, new Integer[]{0})));
+                final PredicateComposite bound = new PredicateComposite<>(
+                        Arrays.asList(new TupleAdaptedPredicate<>(predicate, new Integer[]{0})));
+
+                // When
+                bound.bindInputClass(inputClass);
+
+                // Then
+                assertThat(bound.test(null))
+                        .as("%s bound to %s", predicate, inputClass)
+                        .isEqualTo(unbound.test(null));
+            }
+        }
+    }
 }
@@ -47,6 +47,7 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.from;
 import static org.mockito.Mockito.mock;
 
@@ -375,6 +376,51 @@ public class SignatureTest {
                 .isNotAssignableFrom(Double.class, Long.class);
     }
 
+    @Test
+    public void shouldResolveApplyBiFunctionTypesForEachWrappedBiFunctionClass() {
+        // Given
+        final BiFunction<Long, Double, String> inlineBiFunction = new BiFunction<Long, Double, String>() {
+            @Override
+            public String apply(final Long l, final Double d) {
+                return Long.toString(l).concat(Double.toString(d));
+            }
+        };
+
+        // When
+        final Signature sumInput = Signature.getInputSignature(new ApplyBiFunction(new Sum()));
+        final Signature inlineInput = Signature.getInputSignature(new ApplyBiFunction(inlineBiFunction));
+        final Signature sumInputAgain = Signature.getInputSignature(new ApplyBiFunction(new Sum()));
+
+        // Then
+        SignatureAssert.assertThat(sumInput)
+                .isAssignableFrom(Integer.class, Integer.class)
+                .isNotAssignableFrom(String.class, String.class);
+        SignatureAssert.assertThat(inlineInput)
+                .isAssignableFrom(Long.class, Double.class)
+                .isNotAssignableFrom(Integer.class, Integer.class);
+        assertThat(sumInputAgain.getClasses()).containsExactly(sumInput.getClasses());
+    }
+
+    @Test
+    public void shouldResolveTheSameTypesForInstancesOfTheSameClass() {
+        // Given
+        final IsMoreThan isMoreThanInteger = new IsMoreThan(1);
+        final IsMoreThan isMoreThanString = new IsMoreThan("a");
+
+        // When
+        final Signature integerInput = Signature.getInputSignature(isMoreThanInteger);
+        final Signature stringInput = Signature.getInputSignature(isMoreThanString);
+
+        // Then
+        assertThat(stringInput.getClasses()).containsExactly(integerInput.getClasses());
+        SignatureAssert.assertThat(integerInput)
+                .isAssignableFrom(Integer.class)
+                .isNotAssignableFrom(String.class);
+        SignatureAssert.assertThat(stringInput)
+                .isAssignableFrom(String.class)
+                .isNotAssignableFrom(Integer.class);
+    }
+
     @Test
     public void shouldGenerateInputSignatureUsingTupleClassWhenNotParameterised() {
         // Given
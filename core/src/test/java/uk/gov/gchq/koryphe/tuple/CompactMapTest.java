@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CompactMapTest {
+
+    @Test
+    public void shouldPutAndGetValuesInInsertionOrder() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>(2);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            map.put("field" + i, i);
+        }
+
+        // Then
+        assertThat(map).hasSize(20);
+        assertThat(map.get("field13")).isEqualTo(13);
+        assertThat(new String("field7")).isNotSameAs("field7");
+        assertThat(map.get(new String("field7"))).isEqualTo(7);
+        assertThat(map.get("missing")).isNull();
+        assertThat(map.values()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+    }
+
+    @Test
+    public void shouldReplaceExistingValue() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+
+        // When
+        final Object previous = map.put("a", 2);
+
+        // Then
+        assertThat(previous).isEqualTo(1);
+        assertThat(map).hasSize(1).containsEntry("a", 2);
+    }
+
+    @Test
+    public void shouldSupportNullKeysAndValues() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+
+        // When
+        map.put(null, "nullKey");
+        map.put("nullValue", null);
+
+        // Then
+        assertThat(map.get(null)).isEqualTo("nullKey");
+        assertThat(map.containsKey("nullValue")).isTrue();
+        assertThat(map.get("nullValue")).isNull();
+    }
+
+    @Test
+    public void shouldRemoveEntries() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        // When
+        final Object removed = map.remove("a");
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(map).hasSize(2).containsEntry("b", 2).containsEntry("c", 3).doesNotContainKey("a");
+        assertThat(map.remove("a")).isNull();
+    }
+
+    @Test
+    public void shouldRemoveEntriesThroughIterator() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.put("d", 4);
+
+        // When
+        final Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (0 == (Integer) iterator.next().getValue() % 2) {
+                iterator.remove();
+            }
+        }
+
+        // Then
+        assertThat(map).hasSize(2).containsEntry("a", 1).containsEntry("c", 3);
+    }
+
+    @Test
+    public void shouldWriteThroughEntrySetValue() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+
+        // When
+        map.entrySet().iterator().next().setValue(5);
+
+        // Then
+        assertThat(map.get("a")).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldBeEqualToHashMapWithSameEntries() {
+        // Given
+        final Map<String, Object> hashMap = new HashMap<>();
+        hashMap.put("a", 1);
+        hashMap.put("b", 2);
+
+        // When
+        final CompactMap<String, Object> map = new CompactMap<>(hashMap);
+
+        // Then
+        assertThat(map).isEqualTo(hashMap);
+        assertThat(hashMap).isEqualTo(map);
+        assertThat(map.hashCode()).isEqualTo(hashMap.hashCode());
+    }
+
+    @Test
+    public void shouldClear() {
+        // Given
+        final CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+
+        // When
+        map.clear();
+
+        // Then
+        assertThat(map).isEmpty();
+        assertThat(map.get("a")).isNull();
+    }
+
+    @Test
+    public void shouldNotAllowNegativeExpectedSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CompactMap<>(-1))
+                .withMessage("Expected size must not be negative: -1");
+    }
+}
@@ -48,4 +48,17 @@ public class MapTupleTest {
         // Then
         assertThat(tuple).containsExactly(0, 1, 2);
     }
+
+    @Test
+    public void testConstructorWithExpectedSize() {
+        // When
+        final MapTuple<String> tuple = new MapTuple<>(3);
+        tuple.put("0", 0);
+        tuple.put("1", 1);
+
+        // Then
+        assertThat(tuple.getValues()).isInstanceOf(CompactMap.class);
+        assertThat(tuple).containsExactly(0, 1);
+        assertThat(tuple.get("1")).isEqualTo(1);
+    }
 }
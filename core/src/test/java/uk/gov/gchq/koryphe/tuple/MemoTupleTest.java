@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MemoTupleTest {
+
+    @Test
+    public void shouldOnlyReadRememberedFieldsOnce() {
+        // Given
+        final Tuple<String> tuple = mock(Tuple.class);
+        when(tuple.get("a")).thenReturn(1);
+        when(tuple.get("b")).thenReturn(2);
+        final MemoTuple<String> memo = new MemoTuple<>(tuple, Sets.newHashSet("a"));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(memo.get("a")).isEqualTo(1);
+            assertThat(memo.get("b")).isEqualTo(2);
+        }
+
+        // Then
+        verify(tuple, times(1)).get("a");
+        verify(tuple, times(3)).get("b");
+    }
+
+    @Test
+    public void shouldRememberNullValues() {
+        // Given
+        final Tuple<String> tuple = mock(Tuple.class);
+        final MemoTuple<String> memo = new MemoTuple<>(tuple, Sets.newHashSet("a"));
+
+        // When
+        memo.get("a");
+        memo.get("a");
+
+        // Then
+        verify(tuple, times(1)).get("a");
+    }
+
+    @Test
+    public void shouldWriteThroughAndForgetRememberedValueOnPut() {
+        // Given
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("a", 1);
+        final MemoTuple<String> memo = new MemoTuple<>(tuple, Sets.newHashSet("a"));
+        memo.get("a");
+
+        // When
+        memo.put("a", 2);
+
+        // Then
+        assertThat(tuple.get("a")).isEqualTo(2);
+        assertThat(memo.get("a")).isEqualTo(2);
+        assertThat(memo.values()).containsExactly(2);
+        assertThat(memo.getTuple()).isSameAs(tuple);
+    }
+
+    @Test
+    public void shouldFindSharedReferences() {
+        // Given
+        final Iterable<String[]> selections = Arrays.asList(
+                new String[]{"timestamp", "a"},
+                new String[]{"timestamp"},
+                null,
+                new String[]{"b", "a"},
+                new String[]{"c"});
+
+        // When / Then
+        assertThat(MemoTuple.sharedReferences(selections)).containsExactlyInAnyOrder("timestamp", "a");
+        assertThat(MemoTuple.sharedReferences(Arrays.asList(new String[]{"a"}, new String[]{"b"}))).isEmpty();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PrimitiveArrayTupleTest {
+
+    @Test
+    public void shouldReadValuesOfEachPrimitiveType() {
+        assertThat(PrimitiveArrayTuple.of(new int[]{1, 2})).containsExactly(1, 2);
+        assertThat(PrimitiveArrayTuple.of(new long[]{1L, 2L})).containsExactly(1L, 2L);
+        assertThat(PrimitiveArrayTuple.of(new double[]{1.5, 2.5})).containsExactly(1.5, 2.5);
+        assertThat(PrimitiveArrayTuple.of(new float[]{1.5f})).containsExactly(1.5f);
+        assertThat(PrimitiveArrayTuple.of(new short[]{3})).containsExactly((short) 3);
+        assertThat(PrimitiveArrayTuple.of(new byte[]{4})).containsExactly((byte) 4);
+        assertThat(PrimitiveArrayTuple.of(new char[]{'a'})).containsExactly('a');
+        assertThat(PrimitiveArrayTuple.of(new boolean[]{true, false})).containsExactly(true, false);
+    }
+
+    @Test
+    public void shouldReturnNullForIndexOutOfRange() {
+        // Given
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(new double[]{1.0});
+
+        // When / Then
+        assertThat(tuple.get(1)).isNull();
+    }
+
+    @Test
+    public void shouldNotPutIntoReadOnlyView() {
+        // Given
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(new int[]{1});
+
+        // When / Then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> tuple.put(0, 2))
+                .withMessage("PrimitiveArrayTuple is read only");
+    }
+
+    @Test
+    public void shouldWriteThroughToArray() {
+        // Given
+        final long[] array = {1L, 2L};
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(array, true);
+
+        // When
+        tuple.put(0, 5);
+
+        // Then
+        assertThat(array).containsExactly(5L, 2L);
+    }
+
+    @Test
+    public void shouldNotPutValueOfWrongType() {
+        // Given
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(new int[]{1}, true);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> tuple.put(0, "a"))
+                .withMessage("Unable to put a into a int array");
+    }
+
+    @Test
+    public void shouldTestValuesWithoutBoxing() {
+        // Given
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(new double[]{1.5, 7.5});
+        final IsMoreThan predicate = new IsMoreThan(5.0);
+
+        // When / Then
+        assertThat(tuple.test(0, predicate)).isFalse();
+        assertThat(tuple.test(1, predicate)).isTrue();
+    }
+
+    @Test
+    public void shouldOnlyTestIntLongAndDoubleValuesWithoutBoxing() {
+        // Given
+        final IsMoreThan predicate = new IsMoreThan(5);
+
+        // When / Then
+        assertThat(PrimitiveArrayTuple.of(new int[]{1}).isTestableWithoutBoxing()).isTrue();
+        assertThat(PrimitiveArrayTuple.of(new long[]{1}).isTestableWithoutBoxing()).isTrue();
+        assertThat(PrimitiveArrayTuple.of(new double[]{1}).isTestableWithoutBoxing()).isTrue();
+        for (final Object array : new Object[]{new float[]{1}, new short[]{1}, new byte[]{1}, new char[]{1}, new boolean[]{true}}) {
+            final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(array);
+            assertThat(tuple.isTestableWithoutBoxing()).isFalse();
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> tuple.test(0, predicate));
+        }
+    }
+
+    @Test
+    public void shouldOnlyWrapPrimitiveArrays() {
+        assertThat(PrimitiveArrayTuple.isPrimitiveArray(new int[0])).isTrue();
+        assertThat(PrimitiveArrayTuple.isPrimitiveArray(new Integer[0])).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PrimitiveArrayTuple.of(new Integer[0]))
+                .withMessage("Expected an array of primitives but found: [Ljava.lang.Integer;");
+    }
+
+    @Test
+    public void shouldBeEqualWhenArraysAreEqual() {
+        assertThat(PrimitiveArrayTuple.of(new int[]{1, 2})).isEqualTo(PrimitiveArrayTuple.of(new int[]{1, 2}))
+                .hasSameHashCodeAs(PrimitiveArrayTuple.of(new int[]{1, 2}))
+                .isNotEqualTo(PrimitiveArrayTuple.of(new int[]{1, 3}))
+                .isNotEqualTo(PrimitiveArrayTuple.of(new long[]{1L, 2L}));
+    }
+
+    @Test
+    public void shouldBeEqualToArrayTupleOfBoxedValues() {
+        // Given
+        final PrimitiveArrayTuple ints = PrimitiveArrayTuple.of(new int[]{1, 2});
+        final PrimitiveArrayTuple booleans = PrimitiveArrayTuple.of(new boolean[]{true, false});
+        final PrimitiveArrayTuple doubles = PrimitiveArrayTuple.of(new double[]{1.5, -0.0});
+
+        // When / Then
+        assertThat(ints).isEqualTo(new ArrayTuple(1, 2)).hasSameHashCodeAs(new ArrayTuple(1, 2))
+                .isNotEqualTo(new ArrayTuple(1L, 2L))
+                .isNotEqualTo(new ArrayTuple(1, 2, 3))
+                .isNotEqualTo(new ArrayTuple(1, null));
+        assertThat(new ArrayTuple(1, 2)).isEqualTo(ints);
+        assertThat(new ArrayTuple(1, null)).isNotEqualTo(ints);
+        assertThat(booleans).isEqualTo(new ArrayTuple(true, false)).hasSameHashCodeAs(new ArrayTuple(true, false));
+        assertThat(doubles).isEqualTo(new ArrayTuple(1.5, -0.0)).hasSameHashCodeAs(new ArrayTuple(1.5, -0.0))
+                .isNotEqualTo(new ArrayTuple(1.5, 0.0));
+        assertThat(PrimitiveArrayTuple.of(new int[]{1, 2}, true)).isEqualTo(ints).hasSameHashCodeAs(ints);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple.SlotType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PrimitiveTupleTest {
+
+    @Test
+    public void shouldGetAndPutPrimitives() {
+        // Given
+        final PrimitiveTuple tuple = new PrimitiveTuple(SlotType.INT, SlotType.LONG, SlotType.DOUBLE);
+
+        // When
+        tuple.putInt(0, 1);
+        tuple.putLong(1, Long.MAX_VALUE);
+        tuple.putDouble(2, 2.5);
+
+        // Then
+        assertThat(tuple.getInt(0)).isEqualTo(1);
+        assertThat(tuple.getLong(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(tuple.getDouble(2)).isEqualTo(2.5);
+        assertThat(tuple.getLong(2)).isEqualTo(2L);
+        assertThat(tuple).containsExactly(1, Long.MAX_VALUE, 2.5);
+    }
+
+    @Test
+    public void shouldBoxValuesByTheirSlotType() {
+        // Given
+        final PrimitiveTuple tuple = new PrimitiveTuple(SlotType.INT, SlotType.LONG, SlotType.DOUBLE);
+
+        // When
+        tuple.put(0, 1L);
+        tuple.put(1, 2);
+        tuple.put(2, 3);
+
+        // Then
+        assertThat(tuple.get(0)).isEqualTo(1);
+        assertThat(tuple.get(1)).isEqualTo(2L);
+        assertThat(tuple.get(2)).isEqualTo(3.0);
+        assertThat(tuple.get(3)).isNull();
+    }
+
+    @Test
+    public void shouldNotPutNonNumericValue() {
+        // Given
+        final PrimitiveTuple tuple = new PrimitiveTuple(SlotType.LONG);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> tuple.put(0, null))
+                .withMessage("PrimitiveTuple only supports non-null numeric values, but found: null");
+    }
+
+    @Test
+    public void shouldTestAndCombineValues() {
+        // Given
+        final PrimitiveTuple state = new PrimitiveTuple(SlotType.LONG, SlotType.DOUBLE);
+        state.putLong(0, 1L);
+        final PrimitiveTuple input = new PrimitiveTuple(SlotType.LONG, SlotType.LONG);
+        input.putLong(0, 5L);
+
+        // When
+        final boolean combinedLong = state.combine(0, input, new Max(), null);
+        final boolean combinedMixed = state.combine(1, input, new Max(), new Max());
+
+        // Then
+        assertThat(combinedLong).isTrue();
+        assertThat(combinedMixed).isFalse();
+        assertThat(state.getLong(0)).isEqualTo(5L);
+        assertThat(state.test(0, new IsLessThan(10L))).isTrue();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyPathTest {
+
+    @Test
+    public void shouldShareParsedPathsUpToTheCacheLimit() {
+        // Given
+        final PropertyPath shared = PropertyPath.of("inner.name");
+        for (int i = 0; i < PropertyPath.MAX_CACHED_PATHS; i++) {
+            PropertyPath.of("inner.unused" + i);
+        }
+        final ReflectiveTuple tuple = new ReflectiveTuple(new Outer());
+
+        // When
+        final PropertyPath path = PropertyPath.of("inner.uncached");
+
+        // Then
+        assertThat(PropertyPath.of("inner.name")).isSameAs(shared);
+        assertThat(path).isNotSameAs(PropertyPath.of("inner.uncached"));
+        assertThat(path.get(tuple)).isEqualTo("uncached");
+        assertThat(tuple.get("inner.name")).isEqualTo("name");
+    }
+
+    @Test
+    public void shouldResolvePlansForEachClassAlongThePath() {
+        // Given
+        final PropertyPath path = PropertyPath.of("inner.name");
+
+        // When / Then
+        assertThat(path.get(new ReflectiveTuple(new Outer()))).isEqualTo("name");
+        assertThat(path.get(new ReflectiveTuple(new OtherOuter()))).isEqualTo("other");
+    }
+
+    public static class Outer {
+        public Inner inner = new Inner();
+    }
+
+    public static class OtherOuter {
+        public OtherInner inner = new OtherInner();
+    }
+
+    public static class Inner {
+        public String name = "name";
+        public String uncached = "uncached";
+    }
+
+    public static class OtherInner {
+        public String name = "other";
+    }
+}
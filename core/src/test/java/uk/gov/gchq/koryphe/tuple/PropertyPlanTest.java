@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.tuple.PropertyPlan.GetKind;
+import uk.gov.gchq.koryphe.tuple.PropertyPlan.PutKind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static uk.gov.gchq.koryphe.tuple.ReflectiveTuple.SELECTION_S_DOES_NOT_EXIST;
+
+public class PropertyPlanTest {
+
+    @Test
+    public void shouldResolveGetter() {
+        final PropertyPlan plan = PropertyPlan.of(ExampleObj.class, "name");
+
+        assertThat(plan.getGetKind()).isEqualTo(GetKind.GETTER);
+        assertThat(plan.getPutKind()).isEqualTo(PutKind.SETTER);
+        assertThat(plan.get(new ExampleObj())).isEqualTo("name");
+    }
+
+    @Test
+    public void shouldResolveIsGetter() {
+        final PropertyPlan plan = PropertyPlan.of(ExampleObj.class, "flag");
+
+        assertThat(plan.getGetKind()).isEqualTo(GetKind.IS_GETTER);
+        assertThat(plan.getPutKind()).isEqualTo(PutKind.ABSENT);
+        assertThat(plan.get(new ExampleObj())).isEqualTo(true);
+    }
+
+    @Test
+    public void shouldResolveField() {
+        final PropertyPlan plan = PropertyPlan.of(ExampleObj.class, "count");
+
+        assertThat(plan.getGetKind()).isEqualTo(GetKind.FIELD);
+        assertThat(plan.getPutKind()).isEqualTo(PutKind.FIELD);
+        assertThat(plan.get(new ExampleObj())).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCacheAbsentPlan() {
+        // Given
+        final PropertyPlan plan = PropertyPlan.of(ExampleObj.class, "missing");
+
+        // When / Then
+        assertThat(plan.getGetKind()).isEqualTo(GetKind.ABSENT);
+        assertThat(plan.getPutKind()).isEqualTo(PutKind.ABSENT);
+        assertThat(PropertyPlan.of(ExampleObj.class, "missing")).isSameAs(plan);
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> plan.get(new ExampleObj()))
+                .withMessage(SELECTION_S_DOES_NOT_EXIST, "missing");
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> plan.put(new ExampleObj(), "value"))
+                .withMessage(SELECTION_S_DOES_NOT_EXIST, "missing");
+    }
+
+    @Test
+    public void shouldResolvePlansPerClass() {
+        assertThat(PropertyPlan.of(ExampleObj.class, "count"))
+                .isNotSameAs(PropertyPlan.of(ExampleSubObj.class, "count"));
+        assertThat(PropertyPlan.of(ExampleSubObj.class, "count").get(new ExampleSubObj())).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldResolvePlansBeyondTheCacheLimit() {
+        // Given
+        final PropertyPlan cached = PropertyPlan.of(LimitedObj.class, "count");
+        for (int i = 0; i < PropertyPlan.MAX_CACHED_PLANS; i++) {
+            PropertyPlan.of(LimitedObj.class, "missing" + i);
+        }
+
+        // When
+        final PropertyPlan uncached = PropertyPlan.of(LimitedObj.class, "name");
+
+        // Then
+        assertThat(PropertyPlan.of(LimitedObj.class, "count")).isSameAs(cached);
+        assertThat(PropertyPlan.of(LimitedObj.class, "name")).isNotSameAs(uncached);
+        assertThat(uncached.get(new LimitedObj())).isEqualTo("name");
+        assertThat(PropertyPlan.of(LimitedObj.class, "missing").getGetKind()).isEqualTo(GetKind.ABSENT);
+    }
+
+    private static class ExampleObj {
+        public int count = 1;
+        private String name = "name";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public boolean isFlag() {
+            return true;
+        }
+    }
+
+    private static class ExampleSubObj extends ExampleObj {
+    }
+
+    private static class LimitedObj extends ExampleObj {
+    }
+}
@@ -108,6 +108,55 @@ public class ReflectiveTupleTest {
         assertThat(testObj.get(NESTED_FIELD)).isEqualTo("fa");
     }
 
+    @Test
+    public void shouldGetDeeplyNestedField() {
+        // Given
+        testObj = new ReflectiveTuple(new ExampleNestedObj2());
+
+        // When / Then
+        assertThat(testObj.get("nested.nestedField.fieldA")).isEqualTo("fa");
+        assertThat(testObj.get("nested.THIS.nestedField.methodA")).isEqualTo("ma");
+    }
+
+    @Test
+    public void shouldReturnNullForNullNestedField() {
+        // Given
+        final ExampleNestedObj2 record = new ExampleNestedObj2();
+        record.getNested().setNestedField(null);
+        testObj = new ReflectiveTuple(record);
+
+        // When / Then
+        assertThat(testObj.get("nested.nestedField.fieldA")).isNull();
+    }
+
+    @Test
+    public void shouldNotPutNestedFieldWithNullParent() {
+        // Given
+        final ExampleNestedObj2 record = new ExampleNestedObj2();
+        record.getNested().setNestedField(null);
+        testObj = new ReflectiveTuple(record);
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testObj.put("nested.nestedField.fieldA", "changed"))
+                .withMessage("Unable to put nested.nestedField.fieldA as nestedField is null");
+    }
+
+    @Test
+    public void shouldDelegateNestedReferenceToNestedTuple() {
+        // Given
+        final MapTuple<String> nestedTuple = new MapTuple<>();
+        nestedTuple.put("key", "value");
+        testObj = new ReflectiveTuple(new ExampleTupleHolder(nestedTuple));
+
+        // When
+        testObj.put("tuple.other", "otherValue");
+
+        // Then
+        assertThat(testObj.get("tuple.key")).isEqualTo("value");
+        assertThat(nestedTuple.get("other")).isEqualTo("otherValue");
+    }
+
     @Test
     public void shouldNotFindPrivateField() {
         assertThatExceptionOfType(RuntimeException.class)
@@ -197,6 +246,19 @@ public class ReflectiveTupleTest {
                 .withMessage("field reference is required");
     }
 
+    @Test
+    public void shouldPutDeeplyNestedField() {
+        // Given
+        final ExampleNestedObj2 record = new ExampleNestedObj2();
+        testObj = new ReflectiveTuple(record);
+
+        // When
+        testObj.put("nested.nestedField.fieldA", "changed");
+
+        // Then
+        assertThat(record.getNested().getNestedField().fieldA).isEqualTo("changed");
+    }
+
     @Test
     public void shouldNotPutMethodWithWrongParam() {
         // Given
@@ -252,6 +314,51 @@ public class ReflectiveTupleTest {
         assertThat(testObj.get("valueC")).isEqualTo("isc");
     }
 
+    @Test
+    public void shouldReuseCompiledAccessorsAcrossRecords() {
+        // Given
+        final ExampleObj3 record1 = new ExampleObj3();
+        final ExampleObj3 record2 = new ExampleObj3();
+        record2.fieldA = "other";
+
+        // When
+        new ReflectiveTuple(record1).put("fieldB", "changed1");
+        new ReflectiveTuple(record2).put("fieldB", "changed2");
+
+        // Then
+        assertThat(new ReflectiveTuple(record1).get("fieldA")).isEqualTo("fa");
+        assertThat(new ReflectiveTuple(record2).get("fieldA")).isEqualTo("other");
+        assertThat(record1.fieldB).isEqualTo("changed1");
+        assertThat(record2.fieldB).isEqualTo("changed2");
+    }
+
+    @Test
+    public void shouldGetAndPutPrimitiveProperties() {
+        // Given
+        final ExampleObj4 record = new ExampleObj4();
+        testObj = new ReflectiveTuple(record);
+
+        // When
+        testObj.put("count", 5L);
+        testObj.put("active", true);
+
+        // Then
+        assertThat(testObj.get("count")).isEqualTo(5L);
+        assertThat(testObj.get("active")).isEqualTo(true);
+    }
+
+    @Test
+    public void shouldNotPutPrimitivePropertyWithWrongParam() {
+        // Given
+        testObj = new ReflectiveTuple(new ExampleObj4());
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testObj.put("count", "5"))
+                .withMessage(ReflectiveTuple.ERROR_WRONG_PARAM, "method", "setCount",
+                        Collections.singletonList(long.class), String.class.getSimpleName());
+    }
+
     @Test
     public void shouldUseCache() throws Exception {
         // Given
@@ -372,6 +479,47 @@ public class ReflectiveTupleTest {
         }
     }
 
+    private static class ExampleObj4 {
+        private long count;
+        private boolean active;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(final long count) {
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+    }
+
+    private static class ExampleNestedObj2 {
+        private final ExampleNestedObj1 nested = new ExampleNestedObj1();
+
+        public ExampleNestedObj1 getNested() {
+            return nested;
+        }
+    }
+
+    private static class ExampleTupleHolder {
+        private final Tuple<String> tuple;
+
+        ExampleTupleHolder(final Tuple<String> tuple) {
+            this.tuple = tuple;
+        }
+
+        public Tuple<String> getTuple() {
+            return tuple;
+        }
+    }
+
     private static class ExampleNestedObj1 {
         private ExampleObj nestedField = new ExampleObj();
 
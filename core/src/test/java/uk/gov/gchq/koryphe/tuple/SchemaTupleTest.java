@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class SchemaTupleTest {
+
+    private final TupleSchema<String> schema = new TupleSchema<>("a", "b", "c");
+
+    @Test
+    public void shouldGetAndPutByReferenceAndSlot() {
+        // Given
+        final SchemaTuple<String> tuple = schema.createTuple();
+
+        // When
+        tuple.put("b", 2);
+        tuple.putSlot(2, 3);
+
+        // Then
+        assertThat(tuple.getSlot(1)).isEqualTo(2);
+        assertThat(tuple.get("c")).isEqualTo(3);
+        assertThat(tuple.get("missing")).isNull();
+        assertThat(tuple.get(Tuple.THIS)).isSameAs(tuple);
+        assertThat(tuple).containsExactly(null, 2, 3);
+    }
+
+    @Test
+    public void shouldNotPutFieldMissingFromSchema() {
+        // Given
+        final SchemaTuple<String> tuple = schema.createTuple();
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> tuple.put("missing", 1))
+                .withMessage("Field: missing is not in the schema");
+    }
+
+    @Test
+    public void shouldResolveSlots() {
+        assertThat(schema.size()).isEqualTo(3);
+        assertThat(schema.indexOf("c")).isEqualTo(2);
+        assertThat(schema.indexOf("missing")).isEqualTo(-1);
+        assertThat(schema.indexesOf(new String[]{"c", "a"})).containsExactly(2, 0);
+    }
+
+    @Test
+    public void shouldNotCreateSchemaWithDuplicateFields() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TupleSchema<>("a", "a"))
+                .withMessage("Duplicate field: a");
+    }
+
+    @Test
+    public void shouldNotCreateTupleWithWrongNumberOfValues() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> schema.createTuple(1, 2))
+                .withMessage("Expected 3 values but found 2");
+    }
+}
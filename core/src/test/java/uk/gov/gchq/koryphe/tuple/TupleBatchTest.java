@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class TupleBatchTest {
+    private final TupleSchema<String> schema = new TupleSchema<>("a", "b");
+
+    @Test
+    public void shouldAddRowsIntoColumnsAndSelectThem() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 3);
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("a", 3);
+        tuple.put("b", "three");
+
+        // When
+        batch.addRow(1, "one");
+        batch.addRow(2, "two");
+        batch.addRow(tuple);
+
+        // Then
+        assertThat(batch.getRowCount()).isEqualTo(3);
+        assertThat(batch.getColumn("a")).containsExactly(1, 2, 3);
+        assertThat(batch.getColumn("b")).containsExactly("one", "two", "three");
+        assertThat(batch.getSelectedCount()).isEqualTo(3);
+        assertThat(batch.getSelection()).containsExactly(0, 1, 2);
+        assertThat(batch.get(1, "b")).isEqualTo("two");
+    }
+
+    @Test
+    public void shouldNarrowAndResetSelection() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 3);
+        batch.addRow(1, "one");
+        batch.addRow(2, "two");
+        batch.addRow(3, "three");
+
+        // When
+        batch.setSelection(new int[]{0, 2}, 2);
+
+        // Then
+        assertThat(batch.getSelectedCount()).isEqualTo(2);
+        assertThat(batch.getSelection()).startsWith(0, 2);
+
+        // When
+        batch.selectAll();
+
+        // Then
+        assertThat(batch.getSelectedCount()).isEqualTo(3);
+        assertThat(batch.getSelection()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void shouldReadAndWriteThroughRowView() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 2);
+        batch.addRow(1, "one");
+        batch.addRow(2, "two");
+        final TupleBatch<String>.Row row = batch.row();
+
+        // When
+        row.moveTo(1).put("b", "TWO");
+
+        // Then
+        assertThat(row.get("a")).isEqualTo(2);
+        assertThat(row.get("missing")).isNull();
+        assertThat(row).containsExactly(2, "TWO");
+        assertThat(batch.get(1, "b")).isEqualTo("TWO");
+    }
+
+    @Test
+    public void shouldClearRows() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 2);
+        batch.addRow(1, "one");
+
+        // When
+        batch.clear();
+
+        // Then
+        assertThat(batch.getRowCount()).isZero();
+        assertThat(batch.getSelectedCount()).isZero();
+        assertThat(batch.getColumn("a")).containsOnlyNulls();
+    }
+
+    @Test
+    public void shouldNotAddRowsBeyondCapacity() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 1);
+        batch.addRow(1, "one");
+
+        // When / Then
+        assertThatIllegalStateException()
+                .isThrownBy(() -> batch.addRow(2, "two"))
+                .withMessage("Batch is full, capacity: 1");
+    }
+
+    @Test
+    public void shouldNotAddRowWithWrongNumberOfValues() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 1);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> batch.addRow(1))
+                .withMessage("Expected 2 values but found 1");
+    }
+
+    @Test
+    public void shouldNotGetColumnMissingFromSchema() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(schema, 1);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> batch.getColumn("c"))
+                .withMessage("Field: c is not in the schema");
+    }
+}
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class TupleInputAdapterTest extends FunctionTest<TupleInputAdapter> {
     @Override
@@ -120,4 +121,136 @@ class TupleInputAdapterTest extends FunctionTest<TupleInputAdapter> {
         ReferenceArrayTuple<String> expected = new ReferenceArrayTuple<>(objects, new String[]{"one", "two"});
         assertThat(adapted).isEqualTo(expected);
     }
+
+    @Test
+    public void shouldSelectBySlotWhenBoundToSchema() {
+        // Given
+        final TupleSchema<String> schema = new TupleSchema<>("one", "two", "three");
+        final SchemaTuple<String> tuple = schema.createTuple(1, 2, 3);
+
+        final TupleInputAdapter<String, Object> singleAdapter = new TupleInputAdapter<>(new String[]{"two"});
+        final TupleInputAdapter<String, Object> multiAdapter = new TupleInputAdapter<>(new String[]{"three", "one"});
+        singleAdapter.bind(schema);
+        multiAdapter.bind(schema);
+
+        // When
+        final Object single = singleAdapter.apply(tuple);
+        final Object multi = multiAdapter.apply(tuple);
+
+        // Then
+        assertThat(single).isEqualTo(2);
+        assertThat(multi).isEqualTo(new SlotArrayTuple(tuple, new int[]{2, 0}));
+        assertThat((Iterable<Object>) multi).containsExactly(3, 1);
+    }
+
+    @Test
+    public void shouldSelectByReferenceFromOtherTuplesWhenBoundToSchema() {
+        // Given
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("one", 1);
+        final TupleInputAdapter<String, Object> inputAdapter = new TupleInputAdapter<>(new String[]{"one"});
+        inputAdapter.bind(new TupleSchema<>("one"));
+
+        // When
+        final Object adapted = inputAdapter.apply(tuple);
+
+        // Then
+        assertThat(adapted).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotBindSelectionMissingFromSchema() {
+        // Given
+        final TupleInputAdapter<String, Object> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "four"});
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> inputAdapter.bind(new TupleSchema<>("one", "two")))
+                .withMessage("Field: four is not in the schema: [one, two]");
+    }
+
+    @Test
+    public void shouldReuseAlternatingViewsPerAdapter() {
+        // Given
+        final MapTuple<String> first = new MapTuple<>();
+        first.put("one", 1);
+        first.put("two", 2);
+        final MapTuple<String> second = new MapTuple<>();
+        second.put("one", 3);
+        second.put("two", 4);
+        final TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"two", "one"});
+        inputAdapter.reuseViews(TupleInputAdapter.ViewReuse.PER_ADAPTER);
+
+        // When
+        final Tuple<Integer> firstView = inputAdapter.apply(first);
+        final Tuple<Integer> secondView = inputAdapter.apply(second);
+
+        // Then
+        assertThat(firstView).isInstanceOf(SelectionView.class).containsExactly(2, 1);
+        assertThat(secondView).isNotSameAs(firstView).containsExactly(4, 3);
+        assertThat(inputAdapter.apply(second)).isSameAs(firstView).containsExactly(4, 3);
+        assertThat(firstView.values()).isSameAs(firstView);
+    }
+
+    @Test
+    public void shouldWriteThroughReusedView() {
+        // Given
+        final MapTuple<String> tuple = new MapTuple<>();
+        final TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "two"});
+        inputAdapter.reuseViews(TupleInputAdapter.ViewReuse.PER_ADAPTER);
+
+        // When
+        inputAdapter.apply(tuple).put(1, "value");
+
+        // Then
+        assertThat(tuple.get("two")).isEqualTo("value");
+    }
+
+    @Test
+    public void shouldReuseSlotViewsWhenBoundToSchema() {
+        // Given
+        final TupleSchema<String> schema = new TupleSchema<>("one", "two", "three");
+        final TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"three", "one"});
+        inputAdapter.bind(schema);
+        inputAdapter.reuseViews(TupleInputAdapter.ViewReuse.PER_THREAD);
+
+        // When
+        final Tuple<Integer> view = inputAdapter.apply(schema.createTuple(1, 2, 3));
+
+        // Then
+        assertThat(view).isInstanceOf(SelectionView.class).containsExactly(3, 1);
+        assertThat(inputAdapter.apply(schema.createTuple(4, 5, 6))).isNotSameAs(view).containsExactly(6, 4);
+    }
+
+    @Test
+    public void shouldUseSeparateViewsPerThread() throws InterruptedException {
+        // Given
+        final TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "two"});
+        inputAdapter.reuseViews(TupleInputAdapter.ViewReuse.PER_THREAD);
+        final Tuple<Integer> view = inputAdapter.apply(new MapTuple<>());
+        final Object[] otherThreadView = new Object[1];
+
+        // When
+        final Thread thread = new Thread(() -> otherThreadView[0] = inputAdapter.apply(new MapTuple<>()));
+        thread.start();
+        thread.join();
+
+        // Then
+        assertThat(otherThreadView[0]).isInstanceOf(SelectionView.class).isNotSameAs(view);
+        assertThat(inputAdapter.apply(new MapTuple<>())).isNotSameAs(otherThreadView[0]);
+    }
+
+    @Test
+    public void shouldAllocateSelectionsWhenViewReuseIsDisabled() {
+        // Given
+        final TupleInputAdapter<String, Object> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "two"});
+        inputAdapter.reuseViews(TupleInputAdapter.ViewReuse.PER_ADAPTER);
+        inputAdapter.reuseViews(null);
+
+        // When
+        final Object adapted = inputAdapter.apply(new MapTuple<>());
+
+        // Then
+        assertThat(adapted).isInstanceOf(ReferenceArrayTuple.class);
+    }
 }
@@ -18,6 +18,8 @@ package uk.gov.gchq.koryphe.tuple;
 
 import org.junit.jupiter.api.Test;
 
+import uk.gov.gchq.koryphe.tuple.n.Tuple2;
+import uk.gov.gchq.koryphe.tuple.n.Tuple3;
 import uk.gov.gchq.koryphe.util.EqualityTest;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
@@ -25,6 +27,7 @@ import java.io.IOException;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 // Can't extend FunctionTest as TupleOutputAdapter is a BiFunction rather than a Function.
 class TupleOutputAdapterTest extends EqualityTest<TupleOutputAdapter> {
@@ -92,4 +95,100 @@ class TupleOutputAdapterTest extends EqualityTest<TupleOutputAdapter> {
         // Then
         assertThat(adapted.get(2)).isEqualTo("test");
     }
+
+    @Test
+    public void shouldProjectBySlotWhenBoundToSchema() {
+        // Given
+        final TupleSchema<String> schema = new TupleSchema<>("one", "two", "three");
+        final SchemaTuple<String> state = schema.createTuple();
+        final TupleOutputAdapter<String, Object> outputAdapter = new TupleOutputAdapter<>(new String[]{"three", "one"});
+        outputAdapter.bind(schema);
+
+        // When
+        outputAdapter.apply(state, new ArrayTuple("a", "b"));
+
+        // Then
+        assertThat(state.get("one")).isEqualTo("b");
+        assertThat(state.get("two")).isNull();
+        assertThat(state.get("three")).isEqualTo("a");
+    }
+
+    @Test
+    public void shouldCopyArrayTupleOutputIntoArrayTupleByIndex() {
+        // Given
+        final ArrayTuple state = new ArrayTuple("a", "b", "c", "d");
+        final TupleOutputAdapter<Integer, Object> outputAdapter = new TupleOutputAdapter<>(new Integer[]{3, 0, 9});
+
+        // When
+        final Tuple<Integer> result = outputAdapter.apply(state, new Tuple3<>("x", "y", "z"));
+
+        // Then
+        assertThat(result).isSameAs(state).containsExactly("y", "b", "c", "x");
+    }
+
+    @Test
+    public void shouldCopyObjectArrayOutputByReference() {
+        // Given
+        final MapTuple<String> state = new MapTuple<>();
+        final TupleOutputAdapter<String, Object> outputAdapter = new TupleOutputAdapter<>(new String[]{"one", "two"});
+
+        // When
+        outputAdapter.apply(state, new Object[]{1, 2});
+
+        // Then
+        assertThat(state.get("one")).isEqualTo(1);
+        assertThat(state.get("two")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCopyTupleOutputIntoSchemaTupleBySlot() {
+        // Given
+        final TupleSchema<String> schema = new TupleSchema<>("one", "two", "three");
+        final SchemaTuple<String> state = schema.createTuple();
+        final TupleOutputAdapter<String, Object> outputAdapter = new TupleOutputAdapter<>(new String[]{"three", "one"});
+        outputAdapter.bind(schema);
+
+        // When
+        outputAdapter.apply(state, new Tuple2<>(3, 1));
+
+        // Then
+        assertThat(state).containsExactly(1, null, 3);
+    }
+
+    @Test
+    public void shouldWriteThroughSelectionTupleState() {
+        // Given
+        final MapTuple<String> tuple = new MapTuple<>();
+        final ReferenceArrayTuple<String> state = new ReferenceArrayTuple<>(tuple, new String[]{"one", "two"});
+        final TupleOutputAdapter<Integer, Object> outputAdapter = new TupleOutputAdapter<>(new Integer[]{1, 0});
+
+        // When
+        outputAdapter.apply((Tuple) state, new Object[]{"a", "b"});
+
+        // Then
+        assertThat(tuple.get("one")).isEqualTo("b");
+        assertThat(tuple.get("two")).isEqualTo("a");
+    }
+
+    @Test
+    public void shouldNotProjectOutputWithTooFewValues() {
+        // Given
+        final TupleOutputAdapter<String, Object> outputAdapter = new TupleOutputAdapter<>(new String[]{"one", "two", "three"});
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> outputAdapter.apply(new MapTuple<>(), new Object[]{1, 2}))
+                .withMessage("Projection [one, two, three] has 3 fields but the output has 2 values");
+    }
+
+    @Test
+    public void shouldNotProjectIterableOutputWithTooManyValues() {
+        // Given
+        final TupleOutputAdapter<String, Object> outputAdapter = new TupleOutputAdapter<>(new String[]{"one", "two"});
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> outputAdapter.apply(new MapTuple<>(), Arrays.asList(1, 2, 3)))
+                .withMessage("Projection [one, two] has 2 fields but the output has more values");
+    }
 }
@@ -31,6 +31,10 @@ import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class TupleAdaptedBinaryOperatorCompositeTest
         extends BinaryOperatorTest<TupleAdaptedBinaryOperatorComposite<Object>> {
@@ -135,4 +139,27 @@ public class TupleAdaptedBinaryOperatorCompositeTest
         assertThat(agg.get(1)).isEqualTo(10);
         assertThat(agg.get(2)).isEqualTo(18);
     }
+
+    @Test
+    public void shouldReadSharedSelectionFromInputOnceWhenSharingSelections() {
+        // Given
+        final ArrayTuple stateTuple = new ArrayTuple(5, 10);
+        final Tuple<Integer> inputTuple = mock(Tuple.class);
+        when(inputTuple.get(0)).thenReturn(2);
+        final TupleAdaptedBinaryOperatorComposite<Integer> boc = new TupleAdaptedBinaryOperatorComposite.Builder<Integer>()
+                .select(new Integer[] { 0 })
+                .execute(new Product())
+                .select(new Integer[] { 0 })
+                .execute(new Sum())
+                .build();
+        boc.shareSelections(true);
+
+        // When
+        final Tuple<Integer> agg = boc.apply(stateTuple, inputTuple);
+
+        // Then
+        assertThat(agg).isSameAs(stateTuple);
+        assertThat(agg.get(0)).isEqualTo(12);
+        verify(inputTuple, times(1)).get(0);
+    }
 }
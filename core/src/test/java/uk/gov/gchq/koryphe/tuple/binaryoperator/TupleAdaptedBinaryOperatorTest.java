@@ -22,9 +22,14 @@ import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 import uk.gov.gchq.koryphe.binaryoperator.MockBinaryOperator;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Product;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple.SlotType;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
 import uk.gov.gchq.koryphe.tuple.TupleOutputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -117,4 +122,69 @@ public class TupleAdaptedBinaryOperatorTest extends BinaryOperatorTest<TupleAdap
                 new TupleAdaptedBinaryOperator()
         );
     }
+
+    @Test
+    public void shouldCombinePrimitiveTuplesWithoutBoxing() {
+        // Given
+        final PrimitiveTuple state = new PrimitiveTuple(SlotType.INT, SlotType.DOUBLE);
+        state.putInt(0, 2);
+        state.putDouble(1, 1.5);
+        final PrimitiveTuple input = new PrimitiveTuple(SlotType.INT, SlotType.DOUBLE);
+        input.putInt(0, 3);
+        input.putDouble(1, 2.0);
+        final TupleAdaptedBinaryOperator<Integer, Number> intSum = new TupleAdaptedBinaryOperator<>(new Sum(), new Integer[]{0});
+        final TupleAdaptedBinaryOperator<Integer, Number> doubleProduct = new TupleAdaptedBinaryOperator<>(new Product(), new Integer[]{1});
+
+        // When
+        intSum.apply(state, input);
+        doubleProduct.apply(state, input);
+
+        // Then
+        assertThat(state.get(0)).isEqualTo(5);
+        assertThat(state.get(1)).isEqualTo(3.0);
+    }
+
+    @Test
+    public void shouldFoldSelectedRowsOfBatchColumnIntoState() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("count", "name"), 3);
+        batch.addRow(1, "a");
+        batch.addRow(2, "b");
+        batch.addRow(4, "c");
+        batch.setSelection(new int[]{0, 2}, 2);
+        final MapTuple<String> state = new MapTuple<>();
+        state.put("count", 10);
+        final TupleAdaptedBinaryOperator<String, Number> binaryOperator = new TupleAdaptedBinaryOperator<>(new Sum(), new String[]{"count"});
+
+        // When
+        final Tuple<String> result = binaryOperator.applyBatch(state, batch);
+
+        // Then
+        assertThat(result).isSameAs(state);
+        assertThat(state.get("count")).isEqualTo(15);
+    }
+
+    @Test
+    public void shouldFoldEachRowOfBatchIntoStateForMultiFieldSelection() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("a", "b"), 2);
+        batch.addRow(1, 2);
+        batch.addRow(3, 4);
+        final MapTuple<String> state = new MapTuple<>();
+        state.put("a", 0);
+        state.put("b", 0);
+        final BinaryOperator<Tuple<Integer>> sumPairs = (left, right) -> {
+            left.put(0, (Integer) left.get(0) + (Integer) right.get(0));
+            left.put(1, (Integer) left.get(1) + (Integer) right.get(1));
+            return left;
+        };
+        final TupleAdaptedBinaryOperator<String, Tuple<Integer>> binaryOperator = new TupleAdaptedBinaryOperator<>(sumPairs, new String[]{"a", "b"});
+
+        // When
+        binaryOperator.applyBatch(state, batch);
+
+        // Then
+        assertThat(state.get("a")).isEqualTo(4);
+        assertThat(state.get("b")).isEqualTo(6);
+    }
 }
@@ -150,4 +150,27 @@ class TupleAdaptedFunctionCompositeTest extends FunctionTest<TupleAdaptedFunctio
         // Then
         assertThat(transformed.get("output")).isEqualTo(30L);
     }
+
+    @Test
+    public void shouldReadProjectedValueWhenSharingSelections() {
+        // Given
+        final TupleAdaptedFunctionComposite<String> instance = new TupleAdaptedFunctionComposite.Builder<String>()
+                .select(new String[] { "input" })
+                .execute(new ToLong())
+                .project(new String[] { "input" })
+                .select(new String[] { "input" })
+                .execute(new MultiplyLongBy(10))
+                .project(new String[] { "output" })
+                .build();
+        instance.shareSelections(true);
+        final MapTuple<String> inputTuple = new MapTuple<>();
+        inputTuple.put("input", "3");
+
+        // When
+        final Tuple<String> transformed = instance.apply(inputTuple);
+
+        // Then
+        assertThat(transformed).isSameAs(inputTuple);
+        assertThat(transformed.get("output")).isEqualTo(30L);
+    }
 }
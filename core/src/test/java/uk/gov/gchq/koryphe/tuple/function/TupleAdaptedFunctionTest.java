@@ -19,12 +19,17 @@ package uk.gov.gchq.koryphe.tuple.function;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.impl.function.Concat;
+import uk.gov.gchq.koryphe.impl.function.Identity;
 import uk.gov.gchq.koryphe.impl.function.ParseDate;
 import uk.gov.gchq.koryphe.impl.function.ToLong;
 import uk.gov.gchq.koryphe.impl.function.ToUpperCase;
 import uk.gov.gchq.koryphe.tuple.ArrayTuple;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
+import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -107,4 +112,67 @@ class TupleAdaptedFunctionTest extends FunctionTest<TupleAdaptedFunction> {
         assertThat(returnedTuple.get(0)).isEqualTo("test");
         assertThat(returnedTuple.get(1)).isEqualTo("TEST");
     }
+
+    @Test
+    public void shouldSwapFieldsWithReusedViews() {
+        for (final TupleInputAdapter.ViewReuse viewReuse : TupleInputAdapter.ViewReuse.values()) {
+            // Given
+            final TupleAdaptedFunction<Integer, Object, Object> function = new TupleAdaptedFunction<>(new Integer[]{0, 1}, new Identity(), new Integer[]{1, 0});
+            function.reuseViews(viewReuse);
+
+            // When
+            final Tuple<Integer> result = function.apply(new ArrayTuple("a", "b"));
+
+            // Then
+            assertThat(result).as("%s", viewReuse).isEqualTo(new ArrayTuple("b", "a"));
+        }
+    }
+
+    @Test
+    public void shouldCopyReusedViewIntoSingleProjection() {
+        // Given
+        final TupleAdaptedFunction<Integer, Object, Object> function = new TupleAdaptedFunction<>(new Integer[]{0, 1}, new Identity(), new Integer[]{2});
+        function.reuseViews(TupleInputAdapter.ViewReuse.PER_THREAD);
+
+        // When
+        final Tuple<Integer> first = function.apply(new ArrayTuple("a", "b", null));
+        function.apply(new ArrayTuple("c", "d", null));
+
+        // Then
+        assertThat(first.get(2)).isEqualTo(new ArrayTuple("a", "b"));
+    }
+
+    @Test
+    public void shouldApplyFunctionToSelectedRowsOfBatchColumn() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("in", "out"), 3);
+        batch.addRow("a", null);
+        batch.addRow("b", null);
+        batch.addRow("c", null);
+        batch.setSelection(new int[]{0, 2}, 2);
+        final TupleAdaptedFunction<String, ?, ?> function =
+                new TupleAdaptedFunction<>(new String[]{"in"}, new ToUpperCase(), new String[]{"out"});
+
+        // When
+        function.applyBatch(batch);
+
+        // Then
+        assertThat(batch.getColumn("out")).containsExactly("A", null, "C");
+    }
+
+    @Test
+    public void shouldApplyFunctionToEachRowOfBatchForMultiFieldSelection() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("first", "second", "out"), 2);
+        batch.addRow("a", "b", null);
+        batch.addRow("c", "d", null);
+        final TupleAdaptedFunction<String, ?, ?> function =
+                new TupleAdaptedFunction<>(new String[]{"first", "second"}, new Concat(), new String[]{"out"});
+
+        // When
+        function.applyBatch(batch);
+
+        // Then
+        assertThat(batch.getColumn("out")).containsExactly("a,b", "c,d");
+    }
 }
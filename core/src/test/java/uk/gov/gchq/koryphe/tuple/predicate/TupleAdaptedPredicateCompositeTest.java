@@ -24,12 +24,19 @@ import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class TupleAdaptedPredicateCompositeTest extends PredicateTest<TupleAdaptedPredicateComposite> {
 
@@ -153,4 +160,47 @@ class TupleAdaptedPredicateCompositeTest extends PredicateTest<TupleAdaptedPredi
         // When
         assertThat(instance).accepts(objects);
     }
+
+    @Test
+    public void shouldReadSharedSelectionOnceWhenSharingSelections() {
+        // Given
+        final TupleAdaptedPredicateComposite<String> composite = new TupleAdaptedPredicateComposite.Builder<String>()
+                .select(new String[]{"timestamp"}).execute(new IsMoreThan(1L))
+                .select(new String[]{"timestamp"}).execute(new IsLessThan(10L))
+                .select(new String[]{"name"}).execute(new IsA(String.class))
+                .build();
+        composite.shareSelections(true);
+        final Tuple<String> input = mock(Tuple.class);
+        when(input.get("timestamp")).thenReturn(5L);
+        when(input.get("name")).thenReturn("test");
+
+        // When
+        final boolean result = composite.test(input);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(input, times(1)).get("timestamp");
+        verify(input, times(1)).get("name");
+    }
+
+    @Test
+    public void shouldNarrowSelectionOfBatchWithEachPredicate() {
+        // Given
+        final TupleAdaptedPredicateComposite<String> composite = new TupleAdaptedPredicateComposite.Builder<String>()
+                .select(new String[]{"a"}).execute(new IsMoreThan(1))
+                .select(new String[]{"b"}).execute(new IsEqual("x"))
+                .build();
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("a", "b"), 4);
+        batch.addRow(1, "x");
+        batch.addRow(2, "x");
+        batch.addRow(3, "y");
+        batch.addRow(4, "x");
+
+        // When
+        final int passed = composite.testBatch(batch);
+
+        // Then
+        assertThat(passed).isEqualTo(2);
+        assertThat(batch.getSelection()).startsWith(1, 3);
+    }
 }
@@ -19,12 +19,22 @@ package uk.gov.gchq.koryphe.tuple.predicate;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.impl.predicate.IsA;
+import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsXMoreThanY;
+import uk.gov.gchq.koryphe.predicate.BatchPredicate;
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.tuple.PrimitiveArrayTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple;
+import uk.gov.gchq.koryphe.tuple.PrimitiveTuple.SlotType;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleBatch;
+import uk.gov.gchq.koryphe.tuple.TupleSchema;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -66,4 +76,118 @@ class TupleAdaptedPredicateTest extends PredicateTest<TupleAdaptedPredicate> {
                 new TupleAdaptedPredicate(new IsA(String.class), new String[] { "Different" })
         );
     }
+
+    @Test
+    public void shouldTestPrimitiveTupleWithoutBoxing() {
+        // Given
+        final PrimitiveTuple tuple = new PrimitiveTuple(SlotType.LONG, SlotType.DOUBLE);
+        tuple.putLong(0, 10L);
+        tuple.putDouble(1, 0.5);
+        final TupleAdaptedPredicate<Integer, Comparable> longPredicate = new TupleAdaptedPredicate<>(new IsMoreThan(5L), new Integer[]{0});
+        final TupleAdaptedPredicate<Integer, Comparable> doublePredicate = new TupleAdaptedPredicate<>(new IsMoreThan(1.0), new Integer[]{1});
+
+        // When / Then
+        assertThat(longPredicate).accepts(tuple);
+        assertThat(doublePredicate).rejects(tuple);
+    }
+
+    @Test
+    public void shouldNarrowBatchSelectionToRowsThatPass() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("a", "b"), 4);
+        batch.addRow(1, 9);
+        batch.addRow(7, 2);
+        batch.addRow(3, 1);
+        batch.addRow(8, 8);
+        final TupleAdaptedPredicate<String, Comparable> predicate = new TupleAdaptedPredicate<>(new IsMoreThan(5), new String[]{"a"});
+
+        // When
+        final int passed = predicate.testBatch(batch);
+
+        // Then
+        assertThat(passed).isEqualTo(2);
+        assertThat(batch.getSelectedCount()).isEqualTo(2);
+        assertThat(batch.getSelection()).startsWith(1, 3);
+    }
+
+    @Test
+    public void shouldTestEachRowOfBatchForMultiFieldSelection() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("a", "b"), 4);
+        batch.addRow(1, 9);
+        batch.addRow(7, 2);
+        batch.addRow(3, 1);
+        batch.addRow(8, 8);
+        batch.setSelection(new int[]{1, 2, 3}, 3);
+        final TupleAdaptedPredicate<String, ?> predicate = new TupleAdaptedPredicate<>(new IsXMoreThanY(), new String[]{"a", "b"});
+
+        // When
+        final int passed = predicate.testBatch(batch);
+
+        // Then
+        assertThat(passed).isEqualTo(2);
+        assertThat(batch.getSelection()).startsWith(1, 2);
+    }
+
+    @Test
+    public void shouldUseBatchPredicateImplementationForColumn() {
+        // Given
+        final TupleBatch<String> batch = new TupleBatch<>(new TupleSchema<>("a"), 3);
+        batch.addRow(1);
+        batch.addRow(2);
+        batch.addRow(3);
+        final BatchPredicate<Integer> lastRowOnly = new BatchPredicate<Integer>() {
+            @Override
+            public boolean test(final Integer value) {
+                throw new AssertionError("Values should not be tested individually");
+            }
+
+            @Override
+            public int testColumn(final Object[] column, final int[] rows, final int count, final int[] result) {
+                result[0] = rows[count - 1];
+                return 1;
+            }
+        };
+        final TupleAdaptedPredicate<String, Integer> predicate = new TupleAdaptedPredicate<>(lastRowOnly, new String[]{"a"});
+
+        // When
+        final int passed = predicate.testBatch(batch);
+
+        // Then
+        assertThat(passed).isEqualTo(1);
+        assertThat(batch.getSelection()).startsWith(2);
+    }
+
+    @Test
+    public void shouldTestPrimitiveArrayTupleWithoutBoxing() {
+        // Given
+        final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(new double[]{1.5, 7.5});
+        final TupleAdaptedPredicate<Integer, Comparable> predicate = new TupleAdaptedPredicate<>(new IsMoreThan(5.0), new Integer[]{1});
+
+        // When / Then
+        assertThat(predicate.test((Tuple) tuple)).isTrue();
+        predicate.setSelection(new Integer[]{0});
+        assertThat(predicate.test((Tuple) tuple)).isFalse();
+    }
+
+    @Test
+    public void shouldGiveBoxedResultsForPrimitiveArrayTuplesOfOtherTypes() {
+        // Given
+        final Object[] arrays = {new short[]{1, 5, 7}, new byte[]{1, 5, 7}, new char[]{1, 5, 7}, new float[]{1.5f, 5f, 7.5f}};
+        final Predicate[] predicates = {new IsMoreThan(5), new IsMoreThan((short) 5), new IsMoreThan((byte) 5),
+                new IsMoreThan((char) 5), new IsMoreThan(5.0f), new IsMoreThan(5.0), new IsEqual(1.5f), new IsEqual((short) 5)};
+
+        // When / Then
+        for (final Object array : arrays) {
+            final PrimitiveArrayTuple tuple = PrimitiveArrayTuple.of(array);
+            for (final Predicate predicate : predicates) {
+                for (int i = 0; i < tuple.size(); i++) {
+                    final TupleAdaptedPredicate<Integer, Object> adapted = new TupleAdaptedPredicate<>(predicate, new Integer[]{i});
+                    assertThat(adapted.test((Tuple) tuple))
+                            .as("%s on %s[%s]", predicate, array.getClass().getSimpleName(), i)
+                            .isEqualTo(predicate.test(tuple.get(i)));
+                }
+            }
+        }
+    }
 }
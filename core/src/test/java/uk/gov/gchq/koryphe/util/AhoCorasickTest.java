@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AhoCorasickTest {
+
+    @Test
+    public void shouldFindAllNeedlesIncludingOverlappingOnes() {
+        // Given
+        final AhoCorasick automaton = new AhoCorasick(Arrays.asList("he", "she", "his", "hers", "x"));
+
+        // When / Then
+        assertThat(automaton.findAll("ushers").stream().toArray()).containsExactly(0, 1, 3);
+        assertThat(automaton.findAll("this").stream().toArray()).containsExactly(2);
+        assertThat(automaton.findAll("nothing").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldStopAtFirstNeedleFound() {
+        // Given
+        final AhoCorasick automaton = new AhoCorasick(Arrays.asList("abcd", "bc"));
+
+        // When / Then
+        assertThat(automaton.containsAny("xabcx")).isTrue();
+        assertThat(automaton.containsAny("xacbd")).isFalse();
+        assertThat(automaton.containsAny("")).isFalse();
+    }
+
+    @Test
+    public void shouldFollowFailureLinksToShorterNeedles() {
+        // Given
+        final AhoCorasick automaton = new AhoCorasick(Arrays.asList("aab", "ab", "b", "aab"));
+
+        // When / Then
+        assertThat(automaton.findAll("aaab").stream().toArray()).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    public void shouldIgnoreCaseWhenAsked() {
+        // Given
+        final AhoCorasick automaton = new AhoCorasick(Arrays.asList("Secret", "ÄBC"), true);
+
+        // When / Then
+        assertThat(automaton.findAll("top SECRET äbc").stream().toArray()).containsExactly(0, 1);
+        assertThat(new AhoCorasick(Arrays.asList("Secret")).containsAny("SECRET")).isFalse();
+    }
+
+    @Test
+    public void shouldMatchEmptyNeedleInAnyText() {
+        // Given
+        final AhoCorasick automaton = new AhoCorasick(Arrays.asList("", "a"));
+
+        // When / Then
+        assertThat(automaton.containsAny("")).isTrue();
+        assertThat(automaton.findAll("b").stream().toArray()).containsExactly(0);
+        assertThat(new AhoCorasick(Collections.emptyList()).containsAny("b")).isFalse();
+    }
+}
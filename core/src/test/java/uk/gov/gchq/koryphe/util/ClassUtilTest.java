@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassUtilTest {
+
+    @Test
+    public void shouldMatchIsAssignableFrom() {
+        // Given
+        final List<Class<?>> classes = Arrays.asList(Object.class, Number.class, Integer.class, Long.class,
+                Comparable.class, Serializable.class, CharSequence.class, String.class, Collection.class,
+                List.class, ArrayList.class, Map.class, HashMap.class, Object[].class, String[].class,
+                int.class, long.class, int[].class);
+
+        // When / Then
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (final Class<?> target : classes) {
+                for (final Class<?> candidate : classes) {
+                    assertThat(ClassUtil.isAssignableFrom(target, candidate))
+                            .as("%s assignable from %s", target, candidate)
+                            .isEqualTo(target.isAssignableFrom(candidate));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchIsInstance() {
+        // Given
+        final List<Object> values = Arrays.asList(1, 1L, "a", new ArrayList<>(), new String[0], new int[0], null);
+
+        // When / Then
+        for (final Object value : values) {
+            for (final Class<?> target : Arrays.asList(Object.class, Number.class, Comparable.class, List.class, Object[].class)) {
+                assertThat(ClassUtil.isInstance(target, value))
+                        .as("%s instance of %s", value, target)
+                        .isEqualTo(target.isInstance(value));
+            }
+        }
+    }
+
+    @Test
+    public void shouldStillCheckTargetsBeyondTheLimit() {
+        // Given
+        final Class<?>[] targets = {Object.class, Number.class, Integer.class, Comparable.class};
+
+        // When
+        for (int i = 0; i < ClassUtil.MAX_TARGETS_PER_CLASS; i++) {
+            // Object arrays with more dimensions are distinct classes
+            ClassUtil.isAssignableFrom(Array.newInstance(Object.class, new int[i + 1]).getClass(), Double.class);
+        }
+
+        // Then
+        for (final Class<?> target : targets) {
+            assertThat(ClassUtil.isAssignableFrom(target, Double.class)).isEqualTo(target.isAssignableFrom(Double.class));
+        }
+    }
+
+    @Test
+    public void shouldNotRememberTargetsFromChildClassLoaders() throws Exception {
+        // Given
+        final URL testClasses = ClassUtilTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (final URLClassLoader pluginLoader = new URLClassLoader(new URL[]{testClasses}, null)) {
+            final Class<?> pluginClass = pluginLoader.loadClass(Plugin.class.getName());
+
+            // When
+            final boolean stringIsPlugin = ClassUtil.isAssignableFrom(pluginClass, String.class);
+            final boolean pluginIsObject = ClassUtil.isAssignableFrom(Object.class, pluginClass);
+            final boolean pluginIsRunnable = ClassUtil.isAssignableFrom(Runnable.class, pluginClass);
+
+            // Then
+            assertThat(pluginClass).isNotSameAs(Plugin.class);
+            assertThat(stringIsPlugin).isFalse();
+            assertThat(pluginIsObject).isTrue();
+            assertThat(pluginIsRunnable).isTrue();
+            assertThat(ClassUtil.isCached(pluginClass, String.class)).isFalse();
+            assertThat(ClassUtil.isCached(Object.class, pluginClass)).isTrue();
+            assertThat(ClassUtil.isCached(Runnable.class, pluginClass)).isTrue();
+            assertThat(ClassUtil.isVisibleFrom(String.class, pluginClass)).isFalse();
+            assertThat(ClassUtil.isVisibleFrom(pluginClass, String.class)).isTrue();
+            assertThat(ClassUtil.isVisibleFrom(ClassUtilTest.class, Plugin.class)).isTrue();
+        }
+    }
+
+    public static class Plugin implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+}
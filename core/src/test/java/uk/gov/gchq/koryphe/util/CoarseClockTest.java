@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CoarseClockTest {
+
+    @Test
+    public void shouldBeCloseToSystemTime() {
+        // Given
+        final CoarseClock clock = CoarseClock.ofMillis(10L);
+
+        // When
+        final long before = System.currentTimeMillis();
+        final long millis = clock.millis();
+
+        // Then
+        assertThat(millis).isBetween(before - 1000L, System.currentTimeMillis());
+        assertThat(clock.instant().toEpochMilli()).isGreaterThanOrEqualTo(millis);
+        assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void shouldAdvance() throws InterruptedException {
+        // Given
+        final CoarseClock clock = CoarseClock.ofMillis(5L);
+        final long start = clock.millis();
+
+        // When
+        long millis = start;
+        for (int i = 0; i < 200 && millis == start; i++) {
+            Thread.sleep(5L);
+            millis = clock.millis();
+        }
+
+        // Then
+        assertThat(millis).isGreaterThan(start);
+    }
+
+    @Test
+    public void shouldShareTicksBetweenClocksWithSameResolution() {
+        // Given
+        final CoarseClock clock = CoarseClock.ofMillis(20L);
+        final ZoneId zone = ZoneId.of("Europe/London");
+
+        // When / Then
+        assertThat(CoarseClock.ofMillis(20L)).isEqualTo(clock).hasSameHashCodeAs(clock);
+        assertThat(CoarseClock.ofMillis(50L)).isNotEqualTo(clock);
+        assertThat(clock.withZone(zone).getZone()).isEqualTo(zone);
+        assertThat(clock.withZone(zone)).isNotEqualTo(clock);
+        assertThat(clock.getResolutionMillis()).isEqualTo(20L);
+    }
+
+    @Test
+    public void shouldRoundResolutionDownToASupportedResolution() {
+        // When / Then
+        assertThat(CoarseClock.ofMillis(1L).getResolutionMillis()).isEqualTo(1L);
+        assertThat(CoarseClock.ofMillis(7L).getResolutionMillis()).isEqualTo(5L);
+        assertThat(CoarseClock.ofMillis(30L)).isEqualTo(CoarseClock.ofMillis(20L));
+        assertThat(CoarseClock.ofMillis(999L).getResolutionMillis()).isEqualTo(500L);
+        assertThat(CoarseClock.ofMillis(Long.MAX_VALUE).getResolutionMillis()).isEqualTo(1000L);
+        for (long resolution = 1L; resolution <= 2000L; resolution++) {
+            assertThat(CoarseClock.RESOLUTIONS_MILLIS).contains(CoarseClock.ofMillis(resolution).getResolutionMillis());
+        }
+    }
+
+    @Test
+    public void shouldRejectNonPositiveResolution() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CoarseClock.ofMillis(0L));
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.predicate.And;
+import uk.gov.gchq.koryphe.impl.predicate.Exists;
+import uk.gov.gchq.koryphe.impl.predicate.If;
+import uk.gov.gchq.koryphe.impl.predicate.IsA;
+import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
+import uk.gov.gchq.koryphe.impl.predicate.IsIn;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.Not;
+import uk.gov.gchq.koryphe.impl.predicate.Or;
+import uk.gov.gchq.koryphe.impl.predicate.Regex;
+import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
+import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.ReflectiveTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PredicateOptimiserTest {
+
+    @Test
+    public void shouldFlattenNestedAnds() {
+        // Given
+        final IsA isA = new IsA(String.class);
+        final Regex regex = new Regex("a.*");
+        final Exists exists = new Exists();
+        final And<Object> and = new And<>(isA, new And<>(regex, new And<>(exists)));
+
+        // When
+        final Predicate<Object> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(isA, regex, exists));
+    }
+
+    @Test
+    public void shouldFlattenNestedOrs() {
+        // Given
+        final IsMoreThan moreThan = new IsMoreThan(10);
+        final IsLessThan lessThan = new IsLessThan(1);
+        final Or<Integer> or = new Or<>(new Or<>(moreThan), new Or<>(lessThan));
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(or);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Or<>(moreThan, lessThan));
+    }
+
+    @Test
+    public void shouldNotFlattenOrIntoAnd() {
+        // Given
+        final Or<Integer> or = new Or<>(new IsMoreThan(10), new IsLessThan(1));
+        final And<Integer> and = new And<>(new Exists(), or);
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(and);
+    }
+
+    @Test
+    public void shouldRemoveDuplicatePredicates() {
+        // Given
+        final And<Object> and = new And<>(new IsA(String.class), new Regex("a.*"), new IsA(String.class));
+
+        // When
+        final Predicate<Object> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(new IsA(String.class), new Regex("a.*")));
+    }
+
+    @Test
+    public void shouldUnwrapSinglePredicate() {
+        // Given
+        final Or<Integer> or = new Or<>(new And<>(new IsMoreThan(1)));
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(or);
+
+        // Then
+        assertThat(optimised).isEqualTo(new IsMoreThan(1));
+    }
+
+    @Test
+    public void shouldNotUnwrapSingleTupleAdaptedPredicate() {
+        // Given
+        final And<Tuple<Integer>> and = new And<>(new TupleAdaptedPredicate<>(new IsMoreThan(1), new Integer[]{0}));
+
+        // When
+        final Predicate<Tuple<Integer>> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(and);
+    }
+
+    @Test
+    public void shouldFoldAlwaysFalseBranchOfAnd() {
+        // Given
+        final And<Integer> and = new And<>(new IsMoreThan(1), new Or<>(), new IsLessThan(10));
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Or<>());
+        assertThat(optimised.test(5)).isFalse();
+    }
+
+    @Test
+    public void shouldFoldAlwaysTrueBranchOfOr() {
+        // Given
+        final Or<Integer> or = new Or<>(new IsMoreThan(1), new Not<>(new Or<>()));
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(or);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>());
+        assertThat(optimised.test(0)).isTrue();
+    }
+
+    @Test
+    public void shouldRemoveAlwaysTrueAndAlwaysFalseBranches() {
+        // Given
+        final And<Object> and = new And<>(new And<>(), new Or<>(new Or<>(), new IsA(String.class)), new Regex("a.*"));
+
+        // When
+        final Predicate<Object> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(new IsA(String.class), new Regex("a.*")));
+    }
+
+    @Test
+    public void shouldRemoveDoubleNot() {
+        // Given
+        final Not<Comparable> not = new Not<>(new Not<>(new IsMoreThan(1)));
+
+        // When
+        final Predicate<Comparable> optimised = PredicateOptimiser.optimise(not);
+
+        // Then
+        assertThat(optimised).isEqualTo(new IsMoreThan(1));
+    }
+
+    @Test
+    public void shouldResolveIfWithConstantCondition() {
+        // Given
+        final If<Integer> ifTrue = new If<>(true, new IsMoreThan(1), new IsLessThan(10));
+        final If<Integer> ifAlwaysFalse = new If<>(new Or<>(), new IsMoreThan(1), new IsLessThan(10));
+
+        // When / Then
+        assertThat(PredicateOptimiser.optimise(ifTrue)).isEqualTo(new IsMoreThan(1));
+        assertThat(PredicateOptimiser.optimise(ifAlwaysFalse)).isEqualTo(new IsLessThan(10));
+    }
+
+    @Test
+    public void shouldResolveIfWithEqualBranches() {
+        // Given
+        final If<Object> ifPredicate = new If<>(new IsA(String.class), new Exists(), new Exists());
+
+        // When
+        final Predicate<Object> optimised = PredicateOptimiser.optimise(ifPredicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Exists());
+    }
+
+    @Test
+    public void shouldOptimiseNestedPredicatesOfTupleAdaptedComposite() {
+        // Given
+        final TupleAdaptedPredicateComposite<Integer> composite = new TupleAdaptedPredicateComposite.Builder<Integer>()
+                .select(new Integer[]{0}).execute(new Not<>(new Not<>(new IsMoreThan(1))))
+                .select(new Integer[]{1}).execute(new And<>())
+                .select(new Integer[]{0}).execute(new IsMoreThan(1))
+                .build();
+
+        // When
+        final Predicate<Tuple<Integer>> optimised = PredicateOptimiser.optimise(composite);
+
+        // Then
+        final TupleAdaptedPredicateComposite<Integer> expected = new TupleAdaptedPredicateComposite<>();
+        expected.setComponents(Arrays.asList(
+                new TupleAdaptedPredicate<>(new IsMoreThan(1), new Integer[]{0}),
+                new TupleAdaptedPredicate<>(new And<>(), new Integer[]{1})));
+        assertThat(optimised).isEqualTo(expected);
+        assertThat(optimised.test(new ArrayTuple(2, 0))).isTrue();
+        assertThat(optimised.test(new ArrayTuple(1, 0))).isFalse();
+    }
+
+    @Test
+    public void shouldNotModifyInputPredicate() {
+        // Given
+        final And<Integer> and = new And<>(new IsMoreThan(1), new And<>(new IsLessThan(10)));
+        final And<Integer> copy = new And<>(new IsMoreThan(1), new And<>(new IsLessThan(10)));
+
+        // When
+        PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(and).isEqualTo(copy);
+    }
+
+    @Test
+    public void shouldExplainOptimisation() {
+        // Given
+        final And<Integer> and = new And<>(new And<>(new IsMoreThan(1)), new Or<>());
+
+        // When
+        final String explanation = PredicateOptimiser.explain(and);
+
+        // Then
+        assertThat(explanation)
+                .contains("Before:")
+                .contains("After:")
+                .contains("Or (always false)");
+    }
+
+    @Test
+    public void shouldDumpPredicateTree() {
+        // Given
+        final Not<Integer> not = new Not<>(new And<>(new Exists(), new Or<>()));
+
+        // When
+        final String dump = PredicateOptimiser.dump(not);
+
+        // Then
+        final String lineSeparator = System.lineSeparator();
+        assertThat(dump).startsWith("Not" + lineSeparator + "  And" + lineSeparator + "    ")
+                .endsWith("    Or (always false)" + lineSeparator);
+    }
+
+    @Test
+    public void shouldFuseComparisonsIntoInterval() {
+        // Given
+        final And<Comparable> and = new And<>(new IsMoreThan(1), new IsLessThan(10), new IsMoreThan(3, true));
+
+        // When
+        final Predicate<Comparable> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(new IsA(Integer.class), new InRange.Builder<Integer>()
+                .start(3)
+                .end(10)
+                .startInclusive(true)
+                .endInclusive(false)
+                .build()));
+        for (final Comparable value : new Comparable[]{null, 2, 3, 9, 10, 11, 5L, "5"}) {
+            assertThat(optimised.test(value)).isEqualTo(and.test(value));
+        }
+    }
+
+    @Test
+    public void shouldFuseComparisonsOnSameSideIntoOneComparison() {
+        // Given
+        final And<Comparable> and = new And<>(new IsMoreThan(1L), new Exists(), new IsMoreThan(5L));
+
+        // When
+        final Predicate<Comparable> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(new IsMoreThan(5L), new Exists()));
+    }
+
+    @Test
+    public void shouldFuseRangesIntoSingleRange() {
+        // Given
+        final And<Integer> and = new And<>(
+                new InRange.Builder<Integer>().start(1).end(10).build(),
+                new InRange.Builder<Integer>().start(5).end(20).endInclusive(false).build());
+
+        // When
+        final Predicate<Integer> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new InRange.Builder<Integer>()
+                .start(5)
+                .end(10)
+                .startInclusive(true)
+                .endInclusive(true)
+                .build());
+    }
+
+    @Test
+    public void shouldFoldContradictoryComparisonsToFalse() {
+        // Given
+        final And<Comparable> disjoint = new And<>(new IsMoreThan(10), new IsLessThan(5));
+        final And<Comparable> touching = new And<>(new IsMoreThan(5), new IsLessThan(5, true));
+
+        // When / Then
+        assertThat(PredicateOptimiser.optimise(disjoint)).isEqualTo(new Or<>());
+        assertThat(PredicateOptimiser.optimise(touching)).isEqualTo(new Or<>());
+    }
+
+    @Test
+    public void shouldNotFuseComparisonsOfDifferentClasses() {
+        // Given
+        final And<Comparable> and = new And<>(new IsMoreThan(1), new IsLessThan(10L));
+
+        // When
+        final Predicate<Comparable> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(and);
+    }
+
+    @Test
+    public void shouldFuseEqualitiesIntoIsIn() {
+        // Given
+        final Or<Object> or = new Or<>(new IsEqual("a"), new Exists(), new IsEqual("b"), new IsIn("c", "a"));
+
+        // When
+        final Predicate<Object> optimised = PredicateOptimiser.optimise(or);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Or<>(new IsIn("a", "b", "c"), new Exists()));
+    }
+
+    @Test
+    public void shouldMergeAndFuseTupleAdaptedPredicatesWithSameSelection() {
+        // Given
+        final And<Tuple<Integer>> and = new And.Builder<Tuple<Integer>>()
+                .select(0).execute(new IsMoreThan(1))
+                .select(1).execute(new Exists())
+                .select(0).execute(new IsMoreThan(5))
+                .build();
+
+        // When
+        final Predicate<Tuple<Integer>> optimised = PredicateOptimiser.optimise(and);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(
+                new IntegerTupleAdaptedPredicate(new IsMoreThan(5), 0),
+                new IntegerTupleAdaptedPredicate(new Exists(), 1)));
+        assertThat(optimised.test(new ArrayTuple(6, "a"))).isTrue();
+        assertThat(optimised.test(new ArrayTuple(5, "a"))).isFalse();
+    }
+
+    @Test
+    public void shouldNotFoldTupleAdaptedPredicateWhenSelectionCanFail() {
+        // Given
+        final TupleAdaptedPredicate<String, Object> predicate = new TupleAdaptedPredicate<>(new Or<>(), new String[]{"missing"});
+        final ReflectiveTuple tuple = new ReflectiveTuple("abc");
+
+        // When
+        final Predicate<Tuple<String>> optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThatThrownBy(() -> predicate.test(tuple))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("missing does not exist");
+        assertThatThrownBy(() -> optimised.test(tuple))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("missing does not exist");
+    }
+
+    @Test
+    public void shouldKeepConstantComponentsOfTupleAdaptedComposite() {
+        // Given
+        final TupleAdaptedPredicateComposite<String> composite = new TupleAdaptedPredicateComposite.Builder<String>()
+                .select(new String[]{"missing"}).execute(new And<>())
+                .build();
+        final ReflectiveTuple tuple = new ReflectiveTuple("abc");
+
+        // When
+        final Predicate<Tuple<String>> optimised = PredicateOptimiser.optimise(composite);
+
+        // Then
+        assertThatThrownBy(() -> optimised.test(tuple))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("missing does not exist");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RangeUtilTest {
+    private static final boolean[] FLAGS = {true, false};
+    private static final long[] LONGS = {Long.MIN_VALUE, -5L, 0L, 3L, 5L, 10L, Long.MAX_VALUE};
+    private static final double[] DOUBLES = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 2.5, 5.0, Double.POSITIVE_INFINITY, Double.NaN};
+
+    @Test
+    public void shouldGiveSameResultsForLongsAsComparables() {
+        for (final long rangeStart : new long[]{0L, 5L}) {
+            for (final long rangeEnd : new long[]{5L, 3L}) {
+                for (final boolean startInclusive : FLAGS) {
+                    for (final boolean endInclusive : FLAGS) {
+                        for (final boolean startFullyContained : FLAGS) {
+                            for (final boolean endFullyContained : FLAGS) {
+                                for (final long start : LONGS) {
+                                    assertThat(RangeUtil.valueInLongRange(start, rangeStart, rangeEnd, startInclusive, endInclusive, startFullyContained, endFullyContained))
+                                            .isEqualTo(RangeUtil.inRange((Long) start, (Long) start, (Long) rangeStart, (Long) rangeEnd, (Boolean) startInclusive, (Boolean) endInclusive, (Boolean) startFullyContained, (Boolean) endFullyContained))
+                                            .isEqualTo(RangeUtil.valueInRange((Long) start, (Long) rangeStart, (Long) rangeEnd, startInclusive, endInclusive, startFullyContained, endFullyContained));
+                                    for (final long end : LONGS) {
+                                        assertThat(RangeUtil.inLongRange(start, end, rangeStart, rangeEnd, startInclusive, endInclusive, startFullyContained, endFullyContained))
+                                                .isEqualTo(RangeUtil.inRange((Long) start, (Long) end, (Long) rangeStart, (Long) rangeEnd, startInclusive, endInclusive, startFullyContained, endFullyContained));
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldGiveSameResultsForDoublesAsComparables() {
+        for (final double rangeStart : new double[]{0.0, 5.0, Double.NaN}) {
+            for (final double rangeEnd : new double[]{5.0, -0.0}) {
+                for (final boolean startInclusive : FLAGS) {
+                    for (final boolean endInclusive : FLAGS) {
+                        for (final boolean fullyContained : FLAGS) {
+                            for (final double start : DOUBLES) {
+                                assertThat(RangeUtil.valueInDoubleRange(start, rangeStart, rangeEnd, startInclusive, endInclusive, fullyContained, fullyContained))
+                                        .isEqualTo(RangeUtil.valueInRange((Double) start, (Double) rangeStart, (Double) rangeEnd, startInclusive, endInclusive, fullyContained, fullyContained));
+                                for (final double end : DOUBLES) {
+                                    assertThat(RangeUtil.inDoubleRange(start, end, rangeStart, rangeEnd, startInclusive, endInclusive, fullyContained, fullyContained))
+                                            .isEqualTo(RangeUtil.inRange((Double) start, (Double) end, (Double) rangeStart, (Double) rangeEnd, startInclusive, endInclusive, fullyContained, fullyContained));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldTreatMinAndMaxInclusiveAsUnbounded() {
+        assertThat(RangeUtil.valueInLongRange(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, true, true, false, false)).isTrue();
+        assertThat(RangeUtil.valueInDoubleRange(Double.NaN, Double.NEGATIVE_INFINITY, Double.NaN, true, true, false, false)).isTrue();
+        assertThat(RangeUtil.valueInDoubleRange(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, true, true, false, false)).isTrue();
+        assertThat(RangeUtil.valueInRange((Long) null, 1L, 2L, true, true, false, false)).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ValueSetsTest {
+
+    @Test
+    public void shouldHoldLongsWithoutBoxing() {
+        // Given
+        final List<Object> values = Arrays.asList(0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L);
+
+        // When
+        final Set<Object> set = ValueSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class)
+                .hasSize(5)
+                .isEqualTo(new HashSet<>(values))
+                .contains(0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE)
+                .doesNotContain(2L, 1, "1", null);
+        assertThat(set.hashCode()).isEqualTo(new HashSet<>(values).hashCode());
+    }
+
+    @Test
+    public void shouldHoldIntegersWithoutBoxing() {
+        // Given
+        final List<Object> values = Arrays.asList(0, 5, -5, Integer.MAX_VALUE);
+
+        // When
+        final Set<Object> set = ValueSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class)
+                .isEqualTo(new HashSet<>(values))
+                .contains(0, 5, -5, Integer.MAX_VALUE)
+                .doesNotContain(5L, 6);
+        assertThat(new ArrayList<>(set)).allMatch(value -> value instanceof Integer);
+    }
+
+    @Test
+    public void shouldHoldLargeSetsOfLongsInSortedArray() {
+        // Given
+        final List<Object> values = LongStream.range(-1, ValueSets.SORTED_THRESHOLD + 1)
+                .map(value -> value * 1000)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When
+        final Set<Object> set = ValueSets.of(values);
+
+        // Then
+        assertThat(set).hasSize(ValueSets.SORTED_THRESHOLD + 2);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1000L)).isTrue();
+        assertThat(set.contains(1000L * ValueSets.SORTED_THRESHOLD)).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+        assertThat(set.contains(3)).isFalse();
+        assertThat(set).isEqualTo(new HashSet<>(values));
+    }
+
+    @Test
+    public void shouldHoldSmallRangesOfIntegersInBitmap() {
+        // Given
+        final List<Object> values = Arrays.asList(-70, -1, 0, 63, 64, 200, 63);
+
+        // When
+        final Set<Object> set = ValueSets.of(values);
+
+        // Then
+        assertThat(set).hasSize(6)
+                .isEqualTo(new HashSet<>(values))
+                .contains(-70, -1, 0, 63, 64, 200)
+                .doesNotContain(-71, 1, 65, 201, Integer.MIN_VALUE, Integer.MAX_VALUE, 64L);
+        assertThat(new ArrayList<>(set)).containsExactly(-70, -1, 0, 63, 64, 200);
+    }
+
+    @Test
+    public void shouldCheckAllValuesOfBitmapAgainstBitmap() {
+        // Given
+        final Set<Object> set = ValueSets.of(Arrays.asList(1L, 2L, 3L, 130L, 131L));
+
+        // When / Then
+        assertThat(set.containsAll(ValueSets.of(Arrays.asList(2L, 130L)))).isTrue();
+        assertThat(set.containsAll(ValueSets.of(Arrays.asList(2L, 132L)))).isFalse();
+        assertThat(set.containsAll(ValueSets.of(Arrays.asList(-1L, 2L)))).isFalse();
+        assertThat(set.containsAll(ValueSets.of(Arrays.asList(2L, 500L)))).isFalse();
+        assertThat(set.containsAll(ValueSets.of(Arrays.asList(2, 130)))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(3L, 131L))).isTrue();
+    }
+
+    @Test
+    public void shouldCheckAllValuesOfCollectionAgainstBitmap() {
+        // Given
+        final Set<Object> set = ValueSets.of(Arrays.asList(1L, 2L, 3L, 130L, 131L));
+
+        // When / Then
+        assertThat(set.containsAll(Arrays.asList(3L, 131L, 3L))).isTrue();
+        assertThat(set.containsAll(new HashSet<>(Arrays.asList(1L, 130L)))).isTrue();
+        assertThat(set.containsAll(new ArrayList<>())).isTrue();
+        assertThat(set.containsAll(Arrays.asList(3L, 132L))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(-1L, 2L))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(2L, Long.MAX_VALUE))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(2L, 3))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(2L, "3"))).isFalse();
+        assertThat(set.containsAll(Arrays.asList(2L, null))).isFalse();
+    }
+
+    @Test
+    public void shouldHoldStrings() {
+        // Given
+        final List<Object> values = Arrays.asList("a", "b", "", "a");
+
+        // When
+        final Set<Object> set = ValueSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class)
+                .hasSize(3)
+                .isEqualTo(new HashSet<>(values))
+                .contains("a", "b", "", new String("b"))
+                .doesNotContain("c", 'a', null);
+    }
+
+    @Test
+    public void shouldFallBackToHashSetForMixedOrNullValues() {
+        assertThat(ValueSets.of(Arrays.asList(1L, 1))).isInstanceOf(HashSet.class);
+        assertThat(ValueSets.of(Arrays.asList("a", null))).isInstanceOf(HashSet.class);
+        assertThat(ValueSets.of(Arrays.asList(1.0, 2.0))).isInstanceOf(HashSet.class);
+    }
+
+    @Test
+    public void shouldNotAllowSpecialisedSetsToBeModified() {
+        // Given
+        final Set<Object> set = ValueSets.of(Arrays.asList(1L, 2L));
+
+        // When / Then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> set.add(3L));
+    }
+
+    @Test
+    public void shouldCheckBloomFilterBeforeSet() {
+        // Given
+        final List<Object> values = LongStream.range(0, 10_000).map(value -> value * 7).boxed().collect(Collectors.toList());
+
+        // When
+        final Set<Object> set = ValueSets.of(values, true);
+
+        // Then
+        assertThat(ValueSets.isBloomFiltered(set)).isTrue();
+        assertThat(set).isEqualTo(new HashSet<>(values));
+        for (long value = 0; value < 70_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(0 == value % 7);
+        }
+    }
+
+    @Test
+    public void shouldReturnUnmodifiableEmptySet() {
+        // When
+        final Set<Object> fromNull = ValueSets.of(null);
+        final Set<Object> fromEmpty = ValueSets.of(Collections.emptyList(), true);
+
+        // Then
+        assertThat(fromNull).isEmpty();
+        assertThat(fromEmpty).isEmpty();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> fromNull.add(1L));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> fromEmpty.add(1L));
+    }
+}